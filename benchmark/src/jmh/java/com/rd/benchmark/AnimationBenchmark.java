@@ -0,0 +1,81 @@
+package com.rd.benchmark;
+
+import androidx.annotation.Nullable;
+import com.rd.animation.AnimationManager;
+import com.rd.animation.controller.ValueController;
+import com.rd.animation.data.Value;
+import com.rd.animation.type.AnimationType;
+import com.rd.draw.data.Indicator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-frame evaluation of interactive animation, the same work indicator does for each scroll event.
+ * Animations are evaluated either with values calculated on each frame or with baked keyframes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnimationBenchmark implements ValueController.UpdateListener {
+
+    private static final int FRAME_COUNT = 20;
+
+    @Param({"5", "50", "500", "10000"})
+    public int count;
+
+    @Param({"COLOR", "SCALE", "WORM", "SLIDE", "FILL", "THIN_WORM", "DROP", "SWAP", "SCALE_DOWN"})
+    public AnimationType animationType;
+
+    @Param({"false", "true"})
+    public boolean baked;
+
+    private Indicator indicator;
+    private AnimationManager animationManager;
+    private Value value;
+    private int frame;
+    private int transition;
+
+    @Setup
+    public void setup() {
+        indicator = BenchmarkUtils.createIndicator(count, animationType);
+        indicator.setInteractiveAnimation(true);
+        indicator.setSelectedPosition(count / 2);
+        indicator.setSelectingPosition(count / 2 + 1);
+        indicator.setBakedAnimation(baked);
+
+        animationManager = new AnimationManager(indicator, this);
+    }
+
+    @Benchmark
+    public Value frame() {
+        frame = (frame + 1) % FRAME_COUNT;
+        animationManager.interactive((float) frame / FRAME_COUNT);
+        return value;
+    }
+
+    /**
+     * Frame of transition between next pair of positions, as if every scroll event selected another page.
+     */
+    @Benchmark
+    public Value transition() {
+        transition = (transition + 1) % (count - 1);
+        indicator.setSelectedPosition(transition);
+        indicator.setSelectingPosition(transition + 1);
+
+        animationManager.interactive(0.5f);
+        return value;
+    }
+
+    @Override
+    public void onValueUpdated(@Nullable Value value) {
+        this.value = value;
+    }
+}
@@ -0,0 +1,32 @@
+package com.rd.benchmark;
+
+import com.rd.animation.type.AnimationType;
+import com.rd.draw.data.Indicator;
+import com.rd.draw.data.Orientation;
+import com.rd.utils.CoordinatesUtils;
+
+class BenchmarkUtils {
+
+    private static final int RADIUS_PX = 18;
+    private static final int PADDING_PX = 24;
+    private static final int STROKE_PX = 3;
+
+    static Indicator createIndicator(int count, AnimationType animationType) {
+        Indicator indicator = new Indicator();
+        indicator.setCount(count);
+        indicator.setRadius(RADIUS_PX);
+        indicator.setPadding(PADDING_PX);
+        indicator.setStroke(animationType == AnimationType.FILL ? STROKE_PX : 0);
+        indicator.setScaleFactor(0.7f);
+        indicator.setOrientation(Orientation.HORIZONTAL);
+        indicator.setAnimationType(animationType);
+        indicator.setAnimationDuration(350);
+        indicator.setSelectedColor(0xff1976d2);
+        indicator.setUnselectedColor(0xffbdbdbd);
+
+        int step = CoordinatesUtils.getStep(indicator);
+        indicator.setWidth(step * count);
+        indicator.setHeight(RADIUS_PX * 6);
+        return indicator;
+    }
+}
@@ -0,0 +1,79 @@
+package com.rd.benchmark;
+
+import com.rd.animation.type.AnimationType;
+import com.rd.draw.data.Indicator;
+import com.rd.draw.data.SelectingProgress;
+import com.rd.utils.CoordinatesUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coordinate lookup, hit-testing and scroll progress calculation for a single indicator position.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CoordinatesBenchmark {
+
+    @Param({"5", "50", "500", "10000"})
+    public int count;
+
+    private Indicator indicator;
+    private SelectingProgress progress;
+    private int position;
+
+    @Setup
+    public void setup() {
+        indicator = BenchmarkUtils.createIndicator(count, AnimationType.WORM);
+        progress = new SelectingProgress();
+    }
+
+    @Benchmark
+    public int coordinate() {
+        return CoordinatesUtils.getCoordinate(indicator, nextPosition());
+    }
+
+    @Benchmark
+    public int coordinateAfterChange() {
+        //Coordinates table is rebuilt after each geometry change
+        indicator.setPadding(indicator.getPadding() ^ 1);
+        return CoordinatesUtils.getCoordinate(indicator, nextPosition());
+    }
+
+    @Benchmark
+    public int position() {
+        int x = CoordinatesUtils.getXCoordinate(indicator, nextPosition());
+        int y = CoordinatesUtils.getYCoordinate(indicator, 0);
+        return CoordinatesUtils.getPosition(indicator, x, y);
+    }
+
+    @Benchmark
+    public int nearestPosition() {
+        int x = CoordinatesUtils.getXCoordinate(indicator, nextPosition());
+        int y = CoordinatesUtils.getYCoordinate(indicator, 0);
+        return CoordinatesUtils.getNearestPosition(indicator, x + 1, y + 1, 8);
+    }
+
+    @Benchmark
+    public SelectingProgress progress() {
+        indicator.setSelectedPosition(position);
+        return CoordinatesUtils.getProgress(indicator, nextPosition(), 0.5f, false, progress);
+    }
+
+    private int nextPosition() {
+        position++;
+        if (position >= count) {
+            position = 0;
+        }
+
+        return position;
+    }
+}
@@ -1,11 +1,20 @@
 package com.rd;
 
+import android.content.Context;
+import android.os.Build;
+import android.view.View;
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.rd.animation.AnimationManager;
+import com.rd.animation.clock.AndroidFrameSource;
+import com.rd.animation.clock.FrameClock;
 import com.rd.animation.controller.ValueController;
 import com.rd.animation.data.Value;
+import com.rd.animation.data.type.WindowAnimationValue;
 import com.rd.draw.DrawManager;
 import com.rd.draw.data.Indicator;
+import com.rd.draw.data.IndicatorStyle;
+import com.rd.utils.CoordinatesUtils;
 
 public class IndicatorManager implements ValueController.UpdateListener {
 
@@ -13,13 +22,25 @@ public class IndicatorManager implements ValueController.UpdateListener {
     private AnimationManager animationManager;
     private Listener listener;
 
+    private boolean isInteractionEnabled; //Interactive animation of style, indicator value is reset while selecting
+    private boolean isInvalidatePending; //Dirty area is invalidated, but not drawn yet
+    private int updateCount;
+    private int frameUpdateCount;
+
     interface Listener {
         void onIndicatorUpdated();
     }
 
-    IndicatorManager(@Nullable Listener listener) {
+    IndicatorManager(@NonNull Context context, @Nullable Listener listener) {
+        //Animation core is platform independent, so it is bound to Android here
+        if (!FrameClock.getInstance().hasFrameSource()) {
+            FrameClock.setFrameSource(new AndroidFrameSource(context));
+        }
+
         this.listener = listener;
         this.drawManager = new DrawManager();
+        //Match colors blended by ArgbEvaluator of the running platform
+        drawManager.indicator().setGammaCorrected(Build.VERSION.SDK_INT >= Build.VERSION_CODES.O);
         this.animationManager = new AnimationManager(drawManager.indicator(), this);
     }
 
@@ -35,10 +56,127 @@ public class IndicatorManager implements ValueController.UpdateListener {
         return drawManager;
     }
 
+    /**
+     * Return number of value updates that were coalesced into last drawn frame.
+     */
+    public int getFrameUpdateCount() {
+        return frameUpdateCount;
+    }
+
+    /**
+     * Should be called once indicator is drawn, so next value update will request new frame.
+     */
+    public void onFrameDrawn() {
+        frameUpdateCount = updateCount;
+        updateCount = 0;
+        isInvalidatePending = false;
+    }
+
+    /**
+     * Drop pending frame request, e.g. when view is detached and pending frame will never be drawn.
+     */
+    public void resetFrame() {
+        updateCount = 0;
+        isInvalidatePending = false;
+    }
+
+    /**
+     * Measure indicator at its desired size, for hosts which are not laid out as a view.
+     */
+    void measure() {
+        int unspecified = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+        drawManager.measureViewSize(unspecified, unspecified);
+    }
+
+    /**
+     * Apply all values of style, ending running animation, for hosts which are not configured value by value.
+     */
+    void setStyle(@NonNull IndicatorStyle style) {
+        animationManager.end();
+        onValueUpdated(null);
+
+        indicator().setStyle(style);
+        isInteractionEnabled = style.isInteractiveAnimation();
+        updateWindow();
+    }
+
+    /**
+     * Return true if interactive animation of applied style is enabled, even while position
+     * is being selected with basic animation.
+     */
+    boolean isInteractionEnabled() {
+        return isInteractionEnabled;
+    }
+
+    /**
+     * Move window of visible indicators to selected position, see {@link Indicator#getMaxVisibleCount()}.
+     */
+    void updateWindow() {
+        Indicator indicator = indicator();
+        indicator.setWindowOffset(CoordinatesUtils.getWindowOffset(indicator, indicator.getSelectedPosition()));
+    }
+
+    /**
+     * Select position with basic animation, unless it is already selected or being selected.
+     */
+    void select(int position) {
+        Indicator indicator = indicator();
+        if (position == indicator.getSelectedPosition() || position == indicator.getSelectingPosition()) {
+            return;
+        }
+
+        //Same as PageIndicatorView, indicators are drawn as selected with basic animation until next progress
+        indicator.setInteractiveAnimation(false);
+        indicator.setLastSelectedPosition(indicator.getSelectedPosition());
+        indicator.setSelectingPosition(position);
+        indicator.setSelectedPosition(position);
+        animationManager.basic();
+    }
+
+    /**
+     * Animate selecting of position with progress in range [0 - 1], where progress 1 selects the position.
+     */
+    void progress(int selectingPosition, float progress) {
+        Indicator indicator = indicator();
+        int count = indicator.getCount();
+        if (count <= 0 || selectingPosition < 0) {
+            selectingPosition = 0;
+
+        } else if (selectingPosition > count - 1) {
+            selectingPosition = count - 1;
+        }
+
+        if (progress < 0) {
+            progress = 0;
+
+        } else if (progress > 1) {
+            progress = 1;
+        }
+
+        indicator.setInteractiveAnimation(isInteractionEnabled);
+        if (progress == 1) {
+            indicator.setLastSelectedPosition(indicator.getSelectedPosition());
+            indicator.setSelectedPosition(selectingPosition);
+        }
+
+        indicator.setSelectingPosition(selectingPosition);
+        animationManager.interactive(progress);
+    }
+
     @Override
     public void onValueUpdated(@Nullable Value value) {
-        drawManager.updateValue(value);
-        if (listener != null) {
+        if (value instanceof WindowAnimationValue) {
+            //Window offset is animated independently from selected indicators
+            indicator().setWindowOffset(((WindowAnimationValue) value).getOffset());
+        } else {
+            drawManager.updateValue(value);
+        }
+
+        updateCount++;
+
+        boolean isDirtyAreaGrown = drawManager.updateDirtyBounds();
+        if (listener != null && (!isInvalidatePending || isDirtyAreaGrown)) {
+            isInvalidatePending = true;
             listener.onIndicatorUpdated();
         }
     }
@@ -0,0 +1,38 @@
+package com.rd;
+
+/**
+ * Listener of {@link PageIndicatorView} performance metrics, see {@link PageIndicatorView#setMetricsListener(IndicatorMetrics)}.
+ * All callbacks are invoked on the main thread. Durations are in {@link System#nanoTime()} units.
+ */
+public interface IndicatorMetrics {
+
+    /**
+     * Called after each frame of indicator is drawn.
+     *
+     * @param drawDurationNanos time spent drawing the frame.
+     * @param updateCount       number of animation value updates coalesced into the frame.
+     * @param invalidateCount   number of invalidations requested since previous frame.
+     */
+    void onFrameDrawn(long drawDurationNanos, int updateCount, int invalidateCount);
+
+    /**
+     * Called after each measure pass of indicator.
+     *
+     * @param measureDurationNanos time spent measuring indicator.
+     */
+    void onMeasured(long measureDurationNanos);
+
+    /**
+     * Called after each layout pass of indicator.
+     */
+    void onLaidOut();
+
+    /**
+     * Called when display frames were missed while pager is scrolled.
+     * Frames are counted from time between two {@link android.view.Choreographer} frames and display refresh rate,
+     * and are not reported before API 16.
+     *
+     * @param droppedFrameCount number of frames missed since previous display frame.
+     */
+    void onFramesDropped(int droppedFrameCount);
+}
@@ -0,0 +1,174 @@
+package com.rd;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.os.Build;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.text.TextUtilsCompat;
+import androidx.core.view.ViewCompat;
+
+import com.rd.animation.AnimationManager;
+import com.rd.animation.controller.ValueController;
+import com.rd.animation.data.Value;
+import com.rd.animation.data.type.WindowAnimationValue;
+import com.rd.draw.DrawManager;
+import com.rd.draw.data.Indicator;
+import com.rd.draw.data.IndicatorStyle;
+import com.rd.draw.data.RtlMode;
+import com.rd.utils.CoordinatesUtils;
+
+import java.util.Locale;
+
+/**
+ * Renders snapshots of indicator into bitmaps, e.g. for shared element transitions or preview thumbnails.
+ * Rendering is thread-safe: every thread uses its own drawers and paints, which are kept
+ * and reused by next snapshots rendered on that thread, and no view or shared animation state is touched.
+ */
+public final class IndicatorRenderer {
+
+    private static final ThreadLocal<Renderer> RENDERER = new ThreadLocal<Renderer>() {
+        @Override
+        protected Renderer initialValue() {
+            return new Renderer();
+        }
+    };
+
+    private IndicatorRenderer() {
+    }
+
+    /**
+     * Draw indicator of style into bitmap over its current content, centered in the bitmap.
+     * Snapshot is the same as {@link PageIndicatorView} would draw while its pager is scrolled
+     * by progress from selected page to the next one; animation of style is used for any progress.
+     *
+     * @param bitmap    mutable bitmap to draw into.
+     * @param style     style of indicator, its selection is ignored.
+     * @param selection selected position.
+     * @param progress  progress in range [0 - 1] of selecting position next to selected one.
+     */
+    public static void renderTo(@NonNull Bitmap bitmap, @NonNull IndicatorStyle style, int selection, float progress) {
+        if (!bitmap.isMutable()) {
+            throw new IllegalArgumentException("Bitmap should be mutable to render indicator into it");
+        }
+
+        RENDERER.get().render(bitmap, style, selection, progress);
+    }
+
+    /**
+     * Return size of snapshot of style, as {@link PageIndicatorView} would be measured with wrap_content.
+     *
+     * @return array of width and height in pixels.
+     */
+    @NonNull
+    public static int[] measure(@NonNull IndicatorStyle style) {
+        Renderer renderer = RENDERER.get();
+        renderer.setStyle(style);
+
+        Indicator indicator = renderer.drawManager.indicator();
+        return new int[]{indicator.getWidth(), indicator.getHeight()};
+    }
+
+    private static class Renderer implements ValueController.UpdateListener {
+
+        private final DrawManager drawManager;
+        private final AnimationManager animationManager;
+        private final Canvas canvas = new Canvas();
+
+        Renderer() {
+            drawManager = new DrawManager();
+            animationManager = new AnimationManager(drawManager.indicator(), this);
+
+            Indicator indicator = drawManager.indicator();
+            indicator.setGammaCorrected(Build.VERSION.SDK_INT >= Build.VERSION_CODES.O);
+            //Layer is built for indicators drawn many times, while each snapshot is drawn once
+            indicator.setLayerCacheEnabled(false);
+        }
+
+        void setStyle(@NonNull IndicatorStyle style) {
+            Indicator indicator = drawManager.indicator();
+            indicator.setStyle(style);
+            //Only interactive path is used, as it sets values right away without running animations on frame clock
+            indicator.setInteractiveAnimation(true);
+
+            int unspecified = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+            drawManager.measureViewSize(unspecified, unspecified);
+        }
+
+        void render(@NonNull Bitmap bitmap, @NonNull IndicatorStyle style, int selection, float progress) {
+            setStyle(style);
+
+            Indicator indicator = drawManager.indicator();
+            int count = indicator.getCount();
+            if (count <= 0 || indicator.getWidth() <= 0 || indicator.getHeight() <= 0) {
+                return;
+            }
+
+            select(selection, progress);
+
+            int left = (bitmap.getWidth() - indicator.getWidth()) / 2;
+            int top = (bitmap.getHeight() - indicator.getHeight()) / 2;
+
+            canvas.setBitmap(bitmap);
+            int saveCount = canvas.save();
+            canvas.translate(left, top);
+            drawManager.draw(canvas);
+            canvas.restoreToCount(saveCount);
+            canvas.setBitmap(null);
+        }
+
+        private void select(int selection, float progress) {
+            Indicator indicator = drawManager.indicator();
+            int count = indicator.getCount();
+            boolean isRtl = isRtl(indicator.getRtlMode());
+
+            int position = Math.max(0, Math.min(selection, count - 1));
+            int nextPosition = Math.min(position + 1, count - 1);
+            progress = Math.max(0, Math.min(progress, 1));
+
+            if (isRtl) {
+                position = (count - 1) - position;
+                nextPosition = (count - 1) - nextPosition;
+            }
+
+            indicator.setSelectedPosition(position);
+            indicator.setLastSelectedPosition(position);
+
+            if (progress == 0 || nextPosition == position) {
+                indicator.setSelectingPosition(position);
+                indicator.setWindowOffset(CoordinatesUtils.getWindowOffset(indicator, position));
+                drawManager.updateValue(null);
+                return;
+            }
+
+            indicator.setSelectingPosition(nextPosition);
+            animationManager.interactive(progress);
+        }
+
+        private boolean isRtl(@NonNull RtlMode rtlMode) {
+            switch (rtlMode) {
+                case On:
+                    return true;
+
+                case Off:
+                    return false;
+
+                case Auto:
+                    return TextUtilsCompat.getLayoutDirectionFromLocale(Locale.getDefault()) == ViewCompat.LAYOUT_DIRECTION_RTL;
+            }
+
+            return false;
+        }
+
+        @Override
+        public void onValueUpdated(@Nullable Value value) {
+            if (value instanceof WindowAnimationValue) {
+                drawManager.indicator().setWindowOffset(((WindowAnimationValue) value).getOffset());
+            } else {
+                drawManager.updateValue(value);
+            }
+        }
+    }
+}
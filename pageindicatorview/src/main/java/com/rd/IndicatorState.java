@@ -0,0 +1,54 @@
+package com.rd;
+
+/**
+ * Per item state of {@link PageIndicatorView}: number of indicators and selected position.
+ * State is bound to a view with {@link PageIndicatorView#bind(IndicatorState)}, and keeps selection
+ * made while bound once the view is recycled. See {@link IndicatorStatePool} to reuse states by item id.
+ */
+public class IndicatorState {
+
+    private long itemId;
+    private int count;
+    private int selection;
+    private long lastUsed;
+
+    public IndicatorState() {
+    }
+
+    public IndicatorState(int count, int selection) {
+        this.count = count;
+        this.selection = selection;
+    }
+
+    public long getItemId() {
+        return itemId;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public int getSelection() {
+        return selection;
+    }
+
+    public void setSelection(int selection) {
+        this.selection = selection;
+    }
+
+    void setItemId(long itemId) {
+        this.itemId = itemId;
+    }
+
+    long getLastUsed() {
+        return lastUsed;
+    }
+
+    void setLastUsed(long lastUsed) {
+        this.lastUsed = lastUsed;
+    }
+}
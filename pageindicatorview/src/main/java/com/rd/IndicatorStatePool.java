@@ -0,0 +1,101 @@
+package com.rd;
+
+import androidx.annotation.NonNull;
+import androidx.collection.LongSparseArray;
+
+/**
+ * Keeps {@link IndicatorState} of list items by item id, so fast scrolling rebinds existing states
+ * instead of building new ones. When pool is full, state used least recently is dropped.
+ * Pool is meant to be shared by adapter and used on the main thread only.
+ */
+public class IndicatorStatePool {
+
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private final LongSparseArray<IndicatorState> states;
+    private final int maxSize;
+    private long useCount;
+
+    public IndicatorStatePool() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public IndicatorStatePool(int maxSize) {
+        this.maxSize = Math.max(1, maxSize);
+        this.states = new LongSparseArray<>(this.maxSize);
+    }
+
+    /**
+     * Return state of item, creating it if item has no state yet. New state has no indicators,
+     * see {@link #obtain(long, int)} to initialize it.
+     *
+     * @param itemId stable id of list item.
+     */
+    @NonNull
+    public IndicatorState obtain(long itemId) {
+        IndicatorState state = states.get(itemId);
+        if (state == null) {
+            evict();
+            state = new IndicatorState();
+            state.setItemId(itemId);
+            states.put(itemId, state);
+        }
+
+        state.setLastUsed(++useCount);
+        return state;
+    }
+
+    /**
+     * Return state of item, with count set to specified one. Selection made earlier is kept
+     * if it is still in range.
+     *
+     * @param itemId stable id of list item.
+     * @param count  number of indicators of the item.
+     */
+    @NonNull
+    public IndicatorState obtain(long itemId, int count) {
+        IndicatorState state = obtain(itemId);
+        state.setCount(count);
+
+        if (state.getSelection() >= count) {
+            state.setSelection(Math.max(0, count - 1));
+        }
+
+        return state;
+    }
+
+    /**
+     * Forget state of item, e.g. once it is removed from the list.
+     */
+    public void remove(long itemId) {
+        states.remove(itemId);
+    }
+
+    public void clear() {
+        states.clear();
+    }
+
+    public int size() {
+        return states.size();
+    }
+
+    /**
+     * Remove state used least recently if pool is full. Removed state is not reused,
+     * as it might still be bound to a visible view.
+     */
+    private void evict() {
+        int size = states.size();
+        if (size < maxSize) {
+            return;
+        }
+
+        int oldestIndex = 0;
+        for (int i = 1; i < size; i++) {
+            if (states.valueAt(i).getLastUsed() < states.valueAt(oldestIndex).getLastUsed()) {
+                oldestIndex = i;
+            }
+        }
+
+        states.removeAt(oldestIndex);
+    }
+}
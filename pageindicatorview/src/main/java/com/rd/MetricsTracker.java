@@ -0,0 +1,152 @@
+package com.rd;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.Choreographer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Collects metrics reported to {@link IndicatorMetrics}. Nothing is collected while listener is not set.
+ * Dropped frames are counted from {@link Choreographer} frame timestamps while pager is scrolled,
+ * so they don't depend on whether indicator itself is redrawn on every frame.
+ */
+class MetricsTracker {
+
+    private static final long NANOS_PER_SECOND = 1000000000L;
+    private static final float DEFAULT_REFRESH_RATE = 60f;
+
+    private IndicatorMetrics listener;
+    private long frameIntervalNanos = (long) (NANOS_PER_SECOND / DEFAULT_REFRESH_RATE);
+
+    private int invalidateCount;
+    private boolean isScrolling;
+    private long lastScrollFrameTime;
+
+    private Object frameCallback; //Choreographer.FrameCallback, which is not available before API 16
+    private boolean isFrameCallbackPosted;
+
+    void setListener(@Nullable IndicatorMetrics listener) {
+        this.listener = listener;
+        invalidateCount = 0;
+        lastScrollFrameTime = 0;
+
+        if (listener == null) {
+            removeFrameCallback();
+        } else if (isScrolling) {
+            postFrameCallback();
+        }
+    }
+
+    boolean isEnabled() {
+        return listener != null;
+    }
+
+    void setRefreshRate(float refreshRate) {
+        if (refreshRate > 0) {
+            frameIntervalNanos = (long) (NANOS_PER_SECOND / refreshRate);
+        }
+    }
+
+    void onInvalidate() {
+        if (listener != null) {
+            invalidateCount++;
+        }
+    }
+
+    void onScroll() {
+        isScrolling = true;
+        if (listener != null) {
+            postFrameCallback();
+        }
+    }
+
+    void onScrollIdle() {
+        isScrolling = false;
+        lastScrollFrameTime = 0;
+        removeFrameCallback();
+    }
+
+    /**
+     * Stop counting frames, e.g. once view is detached and pager events are no longer received.
+     */
+    void stop() {
+        onScrollIdle();
+    }
+
+    void onDraw(long startTime, long endTime, int updateCount) {
+        if (listener == null) {
+            return;
+        }
+
+        int count = invalidateCount;
+        invalidateCount = 0;
+        listener.onFrameDrawn(endTime - startTime, updateCount, count);
+    }
+
+    void onMeasure(long startTime, long endTime) {
+        if (listener != null) {
+            listener.onMeasured(endTime - startTime);
+        }
+    }
+
+    void onLayout() {
+        if (listener != null) {
+            listener.onLaidOut();
+        }
+    }
+
+    private void onFrame(long frameTimeNanos) {
+        isFrameCallbackPosted = false;
+        if (listener == null || !isScrolling) {
+            lastScrollFrameTime = 0;
+            return;
+        }
+
+        if (lastScrollFrameTime != 0) {
+            long frameTime = frameTimeNanos - lastScrollFrameTime;
+            int droppedFrameCount = (int) ((frameTime + frameIntervalNanos / 2) / frameIntervalNanos) - 1;
+
+            if (droppedFrameCount > 0) {
+                listener.onFramesDropped(droppedFrameCount);
+            }
+        }
+
+        lastScrollFrameTime = frameTimeNanos;
+        postFrameCallback();
+    }
+
+    private void postFrameCallback() {
+        if (isFrameCallbackPosted || Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN) {
+            return;
+        }
+
+        isFrameCallbackPosted = true;
+        Choreographer.getInstance().postFrameCallback(getFrameCallback());
+    }
+
+    private void removeFrameCallback() {
+        if (!isFrameCallbackPosted) {
+            return;
+        }
+
+        isFrameCallbackPosted = false;
+        Choreographer.getInstance().removeFrameCallback(getFrameCallback());
+    }
+
+    @NonNull
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private Choreographer.FrameCallback getFrameCallback() {
+        if (frameCallback == null) {
+            frameCallback = new Choreographer.FrameCallback() {
+                @Override
+                public void doFrame(long frameTimeNanos) {
+                    onFrame(frameTimeNanos);
+                }
+            };
+        }
+
+        return (Choreographer.FrameCallback) frameCallback;
+    }
+}
@@ -0,0 +1,217 @@
+package com.rd;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.ColorFilter;
+import android.graphics.Paint;
+import android.graphics.PixelFormat;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.StyleRes;
+
+import com.rd.draw.controller.AttributeController;
+import com.rd.draw.data.Indicator;
+import com.rd.draw.data.IndicatorStyle;
+
+/**
+ * Indicator rendered and animated as a {@link Drawable}, e.g. for a background, a toolbar
+ * or a compound drawable of {@code TextView}, where a separate view is not needed.
+ * Intrinsic size is the size {@link PageIndicatorView} would be measured with, and indicator is centered in bounds.
+ * As intrinsic size depends on count and style, bounds should be updated once any of them is changed.
+ */
+public class PageIndicatorDrawable extends Drawable implements IndicatorManager.Listener {
+
+    private final IndicatorManager manager;
+    private final Paint layerPaint = new Paint();
+
+    private int alpha = 255;
+    private ColorFilter colorFilter;
+
+    public PageIndicatorDrawable(@NonNull Context context) {
+        this(context, 0);
+    }
+
+    /**
+     * @param styleRes style resource with {@code piv_} attributes or 0 for default style.
+     */
+    public PageIndicatorDrawable(@NonNull Context context, @StyleRes int styleRes) {
+        this(context, AttributeController.obtainStyle(context, styleRes));
+    }
+
+    public PageIndicatorDrawable(@NonNull Context context, @NonNull IndicatorStyle style) {
+        manager = new IndicatorManager(context, this);
+        setStyle(style);
+    }
+
+    /**
+     * Apply all values of style, including its count and selection.
+     */
+    public void setStyle(@NonNull IndicatorStyle style) {
+        manager.setStyle(style);
+        onSizeChanged();
+    }
+
+    public void setCount(int count) {
+        Indicator indicator = manager.indicator();
+        if (count < 0 || indicator.getCount() == count) {
+            return;
+        }
+
+        manager.animate().end();
+        indicator.setCount(count);
+
+        int position = Math.max(0, Math.min(indicator.getSelectedPosition(), count - 1));
+        indicator.setSelectedPosition(position);
+        indicator.setSelectingPosition(position);
+        indicator.setLastSelectedPosition(position);
+        manager.updateWindow();
+
+        manager.onValueUpdated(null);
+        onSizeChanged();
+    }
+
+    public int getCount() {
+        return manager.indicator().getCount();
+    }
+
+    /**
+     * Select indicator with animation of current style. Position out of range selects first or last indicator.
+     */
+    public void setSelection(int position) {
+        int count = manager.indicator().getCount();
+        manager.select(Math.max(0, Math.min(position, count - 1)));
+    }
+
+    public int getSelection() {
+        return manager.indicator().getSelectedPosition();
+    }
+
+    /**
+     * Set progress value in range [0 - 1] of selecting indicator, e.g. while pager is scrolled.
+     * Progress is applied only if style has interactive animation.
+     *
+     * @param selectingPosition selecting position with specific progress value.
+     * @param progress          float value of progress.
+     */
+    public void setProgress(int selectingPosition, float progress) {
+        if (manager.isInteractionEnabled()) {
+            manager.progress(selectingPosition, progress);
+        }
+    }
+
+    /**
+     * Return indicator model, e.g. to read currently selected position.
+     */
+    @NonNull
+    public Indicator getIndicator() {
+        return manager.indicator();
+    }
+
+    @Override
+    public void draw(@NonNull Canvas canvas) {
+        Indicator indicator = manager.indicator();
+        Rect bounds = getBounds();
+        int width = indicator.getWidth();
+        int height = indicator.getHeight();
+
+        if (width <= 0 || height <= 0 || alpha == 0) {
+            manager.onFrameDrawn();
+            return;
+        }
+
+        int left = bounds.left + (bounds.width() - width) / 2;
+        int top = bounds.top + (bounds.height() - height) / 2;
+
+        int saveCount;
+        if (alpha != 255 || colorFilter != null) {
+            //Indicators overlap while animated, so alpha and filter are applied to all of them at once
+            saveCount = saveLayer(canvas, left, top, left + width, top + height);
+        } else {
+            saveCount = canvas.save();
+        }
+
+        canvas.translate(left, top);
+        manager.drawer().draw(canvas);
+        canvas.restoreToCount(saveCount);
+        manager.onFrameDrawn();
+    }
+
+    @Override
+    public int getIntrinsicWidth() {
+        return manager.indicator().getWidth();
+    }
+
+    @Override
+    public int getIntrinsicHeight() {
+        return manager.indicator().getHeight();
+    }
+
+    @Override
+    public void setAlpha(int alpha) {
+        if (this.alpha != alpha) {
+            this.alpha = alpha;
+            layerPaint.setAlpha(alpha);
+            invalidateSelf();
+        }
+    }
+
+    @Override
+    public int getAlpha() {
+        return alpha;
+    }
+
+    @Override
+    public void setColorFilter(@Nullable ColorFilter colorFilter) {
+        if (this.colorFilter != colorFilter) {
+            this.colorFilter = colorFilter;
+            layerPaint.setColorFilter(colorFilter);
+            invalidateSelf();
+        }
+    }
+
+    @Override
+    public int getOpacity() {
+        return PixelFormat.TRANSLUCENT;
+    }
+
+    @Override
+    public boolean setVisible(boolean visible, boolean restart) {
+        if (!visible) {
+            //Hidden drawable is not drawn, so running animation would only request frames
+            manager.animate().end();
+            manager.resetFrame();
+        }
+
+        return super.setVisible(visible, restart);
+    }
+
+    @Override
+    public void onIndicatorUpdated() {
+        invalidateSelf();
+    }
+
+    @SuppressWarnings("deprecation")
+    private int saveLayer(@NonNull Canvas canvas, int left, int top, int right, int bottom) {
+        boolean isFlagless = Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP;
+
+        if (colorFilter == null) {
+            //Alpha only layer doesn't need a paint and is cheaper to compose
+            return isFlagless
+                    ? canvas.saveLayerAlpha(left, top, right, bottom, alpha)
+                    : canvas.saveLayerAlpha(left, top, right, bottom, alpha, Canvas.ALL_SAVE_FLAG);
+        }
+
+        return isFlagless
+                ? canvas.saveLayer(left, top, right, bottom, layerPaint)
+                : canvas.saveLayer(left, top, right, bottom, layerPaint, Canvas.ALL_SAVE_FLAG);
+    }
+
+    private void onSizeChanged() {
+        manager.measure();
+        invalidateSelf();
+    }
+}
@@ -0,0 +1,242 @@
+package com.rd;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Rect;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.StyleRes;
+import androidx.core.view.ViewCompat;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.rd.animation.type.AnimationType;
+import com.rd.draw.controller.AttributeController;
+import com.rd.draw.data.Indicator;
+import com.rd.draw.data.IndicatorStyle;
+import com.rd.draw.data.Orientation;
+import com.rd.draw.data.SelectingProgress;
+import com.rd.utils.CoordinatesUtils;
+import com.rd.utils.DensityUtils;
+import com.rd.utils.RecyclerViewUtils;
+
+/**
+ * Indicator drawn over {@link RecyclerView} laid out by {@link androidx.recyclerview.widget.LinearLayoutManager},
+ * e.g. a carousel with {@link androidx.recyclerview.widget.PagerSnapHelper}, without adding a separate view.
+ * Number of indicators follows number of list items and selection follows scroll position of the list.
+ * Horizontal indicator is drawn at the bottom of the list, vertical one at its right side.
+ */
+public class PageIndicatorItemDecoration extends RecyclerView.ItemDecoration implements IndicatorManager.Listener {
+
+    private final IndicatorManager manager;
+    private final SelectingProgress scrollPosition = new SelectingProgress();
+    private final SelectingProgress selectingProgress = new SelectingProgress();
+    private final Rect drawnBounds = new Rect(); //Bounds of indicator in list, empty until it's drawn
+
+    private RecyclerView recyclerView;
+    private int edgeOffset;
+
+    private float lastScrollPosition = -1;
+    private boolean isMeasurePending = true;
+    private boolean isDrawing;
+
+    public PageIndicatorItemDecoration(@NonNull Context context) {
+        this(context, 0);
+    }
+
+    /**
+     * @param styleRes style resource with {@code piv_} attributes or 0 for default style.
+     */
+    public PageIndicatorItemDecoration(@NonNull Context context, @StyleRes int styleRes) {
+        manager = new IndicatorManager(context, this);
+        edgeOffset = DensityUtils.dpToPx(Indicator.DEFAULT_PADDING_DP);
+        setStyle(AttributeController.obtainStyle(context, styleRes));
+    }
+
+    /**
+     * Add decoration to list, removing it from list it was attached to before.
+     *
+     * @param recyclerView list to draw indicator over or null to only detach decoration.
+     */
+    public void attachToRecyclerView(@Nullable RecyclerView recyclerView) {
+        if (this.recyclerView == recyclerView) {
+            return;
+        }
+
+        if (this.recyclerView != null) {
+            this.recyclerView.removeItemDecoration(this);
+            manager.animate().end();
+            manager.resetFrame();
+        }
+
+        this.recyclerView = recyclerView;
+        lastScrollPosition = -1;
+
+        drawnBounds.setEmpty();
+        if (recyclerView != null) {
+            recyclerView.addItemDecoration(this);
+        }
+    }
+
+    /**
+     * Apply all values of style. Count of style is replaced by number of list items once list is drawn.
+     */
+    public void setStyle(@NonNull IndicatorStyle style) {
+        manager.setStyle(style);
+        lastScrollPosition = -1;
+        requestMeasure();
+    }
+
+    /**
+     * Set distance in pixels between indicator and bottom edge of list, or its right edge for vertical indicator.
+     */
+    public void setEdgeOffset(int offsetPx) {
+        if (edgeOffset != offsetPx) {
+            edgeOffset = offsetPx;
+            invalidate();
+        }
+    }
+
+    public int getEdgeOffset() {
+        return edgeOffset;
+    }
+
+    /**
+     * Return indicator model, e.g. to read currently selected position.
+     */
+    @NonNull
+    public Indicator getIndicator() {
+        return manager.indicator();
+    }
+
+    @Override
+    public void onDrawOver(@NonNull Canvas canvas, @NonNull RecyclerView parent, @NonNull RecyclerView.State state) {
+        if (recyclerView == null) {
+            recyclerView = parent;
+        }
+
+        Indicator indicator = manager.indicator();
+        updateCount(state.getItemCount());
+
+        int count = indicator.getCount();
+        if (count <= 0 || (indicator.isAutoVisibility() && count <= Indicator.MIN_COUNT)) {
+            drawnBounds.setEmpty();
+            manager.onFrameDrawn();
+            return;
+        }
+
+        if (isMeasurePending) {
+            manager.measure();
+            isMeasurePending = false;
+        }
+
+        //Values updated while drawing are drawn right away, so they don't request one more frame
+        isDrawing = true;
+        if (RecyclerViewUtils.getScrollPosition(parent, scrollPosition)) {
+            onScroll(parent, scrollPosition.getPosition(), scrollPosition.getProgress());
+        }
+        isDrawing = false;
+
+        int left;
+        int top;
+
+        if (indicator.getOrientation() == Orientation.HORIZONTAL) {
+            int contentWidth = parent.getWidth() - parent.getPaddingLeft() - parent.getPaddingRight();
+            left = parent.getPaddingLeft() + (contentWidth - indicator.getWidth()) / 2;
+            top = parent.getHeight() - parent.getPaddingBottom() - edgeOffset - indicator.getHeight();
+
+        } else {
+            int contentHeight = parent.getHeight() - parent.getPaddingTop() - parent.getPaddingBottom();
+            left = parent.getWidth() - parent.getPaddingRight() - edgeOffset - indicator.getWidth();
+            top = parent.getPaddingTop() + (contentHeight - indicator.getHeight()) / 2;
+        }
+
+        drawnBounds.set(left, top, left + indicator.getWidth(), top + indicator.getHeight());
+
+        int saveCount = canvas.save();
+        canvas.translate(left, top);
+        manager.drawer().draw(canvas);
+        canvas.restoreToCount(saveCount);
+        manager.onFrameDrawn();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void onIndicatorUpdated() {
+        if (isDrawing || recyclerView == null) {
+            return;
+        }
+
+        //Animation frames change neither size nor position of indicator, so only its bounds are redrawn.
+        //Bounds are ignored by hardware accelerated views since API 21, same as in PageIndicatorView
+        if (drawnBounds.isEmpty()) {
+            recyclerView.invalidate();
+        } else {
+            recyclerView.invalidate(drawnBounds);
+        }
+    }
+
+    private void onScroll(@NonNull RecyclerView parent, int position, float positionOffset) {
+        float scroll = position + positionOffset;
+        if (scroll == lastScrollPosition) {
+            return;
+        }
+        lastScrollPosition = scroll;
+
+        Indicator indicator = manager.indicator();
+        boolean isRtl = isRtl(parent);
+
+        if (manager.isInteractionEnabled() && indicator.getAnimationType() != AnimationType.NONE) {
+            CoordinatesUtils.getProgress(indicator, position, positionOffset, isRtl, selectingProgress);
+            manager.progress(selectingProgress.getPosition(), selectingProgress.getProgress());
+
+        } else {
+            int count = indicator.getCount();
+            int selected = Math.min(Math.round(scroll), count - 1);
+            manager.select(isRtl ? (count - 1) - selected : selected);
+        }
+    }
+
+    private void updateCount(int count) {
+        Indicator indicator = manager.indicator();
+        if (count < 0 || indicator.getCount() == count) {
+            return;
+        }
+
+        indicator.setCount(count);
+        int position = Math.max(0, Math.min(indicator.getSelectedPosition(), count - 1));
+        indicator.setSelectedPosition(position);
+        indicator.setSelectingPosition(position);
+        indicator.setLastSelectedPosition(position);
+        manager.updateWindow();
+
+        lastScrollPosition = -1;
+        requestMeasure();
+    }
+
+    private void requestMeasure() {
+        isMeasurePending = true;
+        invalidate();
+    }
+
+    private void invalidate() {
+        if (recyclerView != null) {
+            recyclerView.invalidate();
+        }
+    }
+
+    private boolean isRtl(@NonNull RecyclerView parent) {
+        switch (manager.indicator().getRtlMode()) {
+            case On:
+                return true;
+
+            case Off:
+                return false;
+
+            case Auto:
+                return ViewCompat.getLayoutDirection(parent) == ViewCompat.LAYOUT_DIRECTION_RTL;
+        }
+
+        return false;
+    }
+}
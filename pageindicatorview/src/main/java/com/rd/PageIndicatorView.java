@@ -9,7 +9,7 @@ import android.os.Handler;
 import android.os.Looper;
 import android.os.Parcelable;
 import android.util.AttributeSet;
-import android.util.Pair;
+import android.view.Display;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
@@ -17,21 +17,28 @@ import android.view.ViewParent;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.StyleRes;
+import androidx.core.os.TraceCompat;
 import androidx.core.text.TextUtilsCompat;
 import androidx.core.view.ViewCompat;
+import androidx.recyclerview.widget.RecyclerView;
 import androidx.viewpager.widget.ViewPager;
 import androidx.viewpager2.widget.ViewPager2;
 
+import com.rd.animation.interpolator.LookupInterpolator;
 import com.rd.animation.type.AnimationType;
 import com.rd.animation.type.BaseAnimation;
 import com.rd.animation.type.ColorAnimation;
 import com.rd.animation.type.FillAnimation;
 import com.rd.animation.type.ScaleAnimation;
+import com.rd.draw.controller.AttributeController;
 import com.rd.draw.controller.DrawController;
 import com.rd.draw.data.Indicator;
+import com.rd.draw.data.IndicatorStyle;
 import com.rd.draw.data.Orientation;
 import com.rd.draw.data.PositionSavedState;
 import com.rd.draw.data.RtlMode;
+import com.rd.draw.data.SelectingProgress;
 import com.rd.utils.CoordinatesUtils;
 import com.rd.utils.DensityUtils;
 import com.rd.utils.IdUtils;
@@ -40,10 +47,26 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
 
     private static final Handler HANDLER = new Handler(Looper.getMainLooper());
 
+    private static final String TRACE_DRAW = "PageIndicatorView#onDraw";
+    private static final String TRACE_MEASURE = "PageIndicatorView#onMeasure";
+    private static final String TRACE_SCROLL = "PageIndicatorView#onPageScrolled";
+    private static final String TRACE_ANIMATE = "AnimationController#animate";
+
     private IndicatorManager manager;
 
     private PagerAttacher currentPager;
     private boolean isInteractionEnabled;
+    private final SelectingProgress selectingProgress = new SelectingProgress();
+
+    private final MetricsTracker metricsTracker = new MetricsTracker();
+    private boolean isTraceEnabled;
+
+    private IndicatorState boundState;
+
+    private int editDepth;
+    private int editGeneration; //Changed when open batch is applied by resetEdit(), so its editors go stale
+    private boolean isLayoutPending;
+    private boolean isInvalidatePending;
 
     public PageIndicatorView(Context context) {
         super(context);
@@ -69,12 +92,17 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
     @Override
     protected void onAttachedToWindow() {
         super.onAttachedToWindow();
+        resetEdit();
         findViewPager(getParent());
+        updateRefreshRate();
     }
 
     @Override
     protected void onDetachedFromWindow() {
         unRegisterObserver();
+        metricsTracker.stop();
+        manager.resetFrame();
+        manager.drawer().layer().release();
         super.onDetachedFromWindow();
     }
 
@@ -97,6 +125,7 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
             indicator.setSelectedPosition(positionSavedState.getSelectedPosition());
             indicator.setSelectingPosition(positionSavedState.getSelectingPosition());
             indicator.setLastSelectedPosition(positionSavedState.getLastSelectedPosition());
+            updateWindow();
             super.onRestoreInstanceState(positionSavedState.getSuperState());
 
         } else {
@@ -106,13 +135,38 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
 
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
-        Pair<Integer, Integer> pair = manager.drawer().measureViewSize(widthMeasureSpec, heightMeasureSpec);
-        setMeasuredDimension(pair.first, pair.second);
+        beginTrace(TRACE_MEASURE);
+        long startTime = metricsTracker.isEnabled() ? System.nanoTime() : 0;
+
+        manager.drawer().measureViewSize(widthMeasureSpec, heightMeasureSpec);
+
+        Indicator indicator = manager.indicator();
+        setMeasuredDimension(indicator.getWidth(), indicator.getHeight());
+
+        if (metricsTracker.isEnabled()) {
+            metricsTracker.onMeasure(startTime, System.nanoTime());
+        }
+        endTrace();
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
+        super.onLayout(changed, left, top, right, bottom);
+        metricsTracker.onLayout();
     }
 
     @Override
     protected void onDraw(Canvas canvas) {
+        beginTrace(TRACE_DRAW);
+        long startTime = metricsTracker.isEnabled() ? System.nanoTime() : 0;
+
         manager.drawer().draw(canvas);
+        manager.onFrameDrawn();
+
+        if (metricsTracker.isEnabled()) {
+            metricsTracker.onDraw(startTime, System.nanoTime(), manager.getFrameUpdateCount());
+        }
+        endTrace();
     }
 
     @SuppressLint("ClickableViewAccessibility")
@@ -139,13 +193,20 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
     }
 
     @Override
+    @SuppressWarnings("deprecation")
     public void onIndicatorUpdated() {
-        invalidate();
+        metricsTracker.onInvalidate();
+        //Dirty bounds limit redrawn area before Lollipop and on software layers only,
+        //hardware accelerated views ignore them since API 21 and redraw whole view
+        invalidate(manager.drawer().getDirtyBounds());
     }
 
     @Override
     public void onPageScrolled(int position, float positionOffset) {
+        beginTrace(TRACE_SCROLL);
+        metricsTracker.onScroll();
         onPageScroll(position, positionOffset);
+        endTrace();
     }
 
     @Override
@@ -155,9 +216,139 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
 
     @Override
     public void onPagerScrollIsIdle() {
+        metricsTracker.onScrollIdle();
         manager.indicator().setInteractiveAnimation(isInteractionEnabled);
     }
 
+    /**
+     * Start batch of configuration changes. Layout and redraw requested by setters of returned
+     * {@link Editor} are postponed until {@link Editor#apply()} is called, which then issues at most
+     * one {@link #requestLayout()} and one {@link #invalidate()}, and none if nothing has changed.
+     * Setters of the view itself called meanwhile are batched as well.
+     * Batch which is left open is applied once view is attached to window or bound with
+     * {@link #bind(IndicatorState)}, and editors of that batch do nothing when applied afterwards.
+     * See {@link #edit(EditAction)} to have batch applied as soon as changes are made.
+     *
+     * @return editor to chain configuration changes with.
+     */
+    @NonNull
+    public Editor edit() {
+        beginEdit();
+        return new Editor(editGeneration);
+    }
+
+    /**
+     * Make configuration changes of action as a single batch, see {@link #edit()}.
+     * Batch is applied even if action throws an exception.
+     *
+     * @param action action to make configuration changes with.
+     */
+    public void edit(@NonNull EditAction action) {
+        Editor editor = edit();
+        try {
+            action.onEdit(editor);
+        } finally {
+            editor.apply();
+        }
+    }
+
+    /**
+     * Apply all attributes of style resource at once. Style resource is parsed only once and shared
+     * by every indicator using it, which is cheaper than setting each attribute separately.
+     *
+     * @param styleRes style resource with {@code piv_} attributes.
+     */
+    public void setStyle(@StyleRes int styleRes) {
+        setStyle(AttributeController.obtainStyle(getContext(), styleRes));
+    }
+
+    /**
+     * Apply all values of style at once, with single layout and redraw.
+     * Selection is reset to initial position of style.
+     *
+     * @param style style to apply.
+     */
+    public void setStyle(@NonNull IndicatorStyle style) {
+        Indicator indicator = manager.indicator();
+        manager.animate().end();
+        manager.onValueUpdated(null);
+
+        indicator.setStyle(style);
+        isInteractionEnabled = indicator.isInteractiveAnimation();
+        updateWindow();
+        updateVisibility();
+
+        if (indicator.isDynamicCount()) {
+            registerObserver();
+        } else {
+            unRegisterObserver();
+        }
+
+        if (indicator.isFadeOnIdle()) {
+            startIdleRunnable();
+        } else {
+            stopIdleRunnable();
+        }
+
+        onIndicatorChanged(true);
+    }
+
+    /**
+     * Bind indicator to state of a list item, e.g. from {@code RecyclerView.Adapter#onBindViewHolder}.
+     * Running animations are finished and state is applied without animation. Layout is requested
+     * only if count of indicators is changed. Selection made while state is bound is stored to it
+     * on {@link #recycle()} or once another state is bound.
+     *
+     * @param state state of item, see {@link IndicatorStatePool} to keep states by item id.
+     */
+    public void bind(@NonNull IndicatorState state) {
+        resetEdit();
+        if (boundState != null && boundState != state) {
+            recycle();
+        }
+
+        boundState = state;
+        resetAnimation();
+
+        Indicator indicator = manager.indicator();
+        int count = Math.max(0, state.getCount());
+        boolean isCountChanged = indicator.getCount() != count;
+        if (isCountChanged) {
+            indicator.setCount(count);
+            updateVisibility();
+        }
+
+        int position = Math.max(0, Math.min(state.getSelection(), count - 1));
+        indicator.setInteractiveAnimation(isInteractionEnabled);
+        indicator.setLastSelectedPosition(position);
+        indicator.setSelectingPosition(position);
+        indicator.setSelectedPosition(position);
+        updateWindow();
+
+        onIndicatorChanged(isCountChanged);
+    }
+
+    /**
+     * Store selection to bound state and finish running animations, e.g. from
+     * {@code RecyclerView.Adapter#onViewRecycled}, so they don't show up once view is bound to another item.
+     */
+    public void recycle() {
+        if (boundState != null) {
+            boundState.setSelection(manager.indicator().getSelectedPosition());
+            boundState = null;
+        }
+
+        resetAnimation();
+    }
+
+    /**
+     * Return state bound with {@link #bind(IndicatorState)} or null if view is not bound or is recycled.
+     */
+    @Nullable
+    public IndicatorState getBoundState() {
+        return boundState;
+    }
+
     /**
      * Set static number of circle indicators to be displayed.
      *
@@ -166,8 +357,9 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
     public void setCount(int count) {
         if (count >= 0 && manager.indicator().getCount() != count) {
             manager.indicator().setCount(count);
+            updateWindow();
             updateVisibility();
-            requestLayout();
+            onIndicatorChanged(true);
         }
     }
 
@@ -178,6 +370,33 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
         return manager.indicator().getCount();
     }
 
+    /**
+     * Limit number of circle indicators displayed at once. If count is bigger, only a window of indicators
+     * around selected one is displayed and scrolled along with selection. Indicators at window edges are shrunk
+     * to show there are more of them beyond.
+     *
+     * @param maxVisibleCount max number of displayed indicators or {@link Indicator#COUNT_NONE} to display all of them.
+     */
+    public void setMaxVisibleCount(int maxVisibleCount) {
+        if (maxVisibleCount <= 0) {
+            maxVisibleCount = Indicator.COUNT_NONE;
+        }
+
+        Indicator indicator = manager.indicator();
+        if (indicator.getMaxVisibleCount() != maxVisibleCount) {
+            indicator.setMaxVisibleCount(maxVisibleCount);
+            updateWindow();
+            onIndicatorChanged(true);
+        }
+    }
+
+    /**
+     * Return max number of displayed circle indicators or {@link Indicator#COUNT_NONE} if all of them are displayed.
+     */
+    public int getMaxVisibleCount() {
+        return manager.indicator().getMaxVisibleCount();
+    }
+
     /**
      * Dynamic count will automatically update number of circle indicators
      * if {@link ViewPager} page count updates on run-time. If new count will be bigger than current count,
@@ -225,8 +444,7 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
         }
 
         int radiusPx = DensityUtils.dpToPx(radiusDp);
-        manager.indicator().setRadius(radiusPx);
-        invalidate();
+        setRadiusPx(radiusPx);
     }
 
     /**
@@ -240,8 +458,7 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
             radiusPx = 0;
         }
 
-        manager.indicator().setRadius((int) radiusPx);
-        invalidate();
+        setRadiusPx((int) radiusPx);
     }
 
     /**
@@ -263,8 +480,7 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
         }
 
         int paddingPx = DensityUtils.dpToPx(paddingDp);
-        manager.indicator().setPadding(paddingPx);
-        invalidate();
+        setPaddingPx(paddingPx);
     }
 
     /**
@@ -277,8 +493,7 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
             paddingPx = 0;
         }
 
-        manager.indicator().setPadding((int) paddingPx);
-        invalidate();
+        setPaddingPx((int) paddingPx);
     }
 
     /**
@@ -305,7 +520,10 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
             factor = ScaleAnimation.MIN_SCALE_FACTOR;
         }
 
-        manager.indicator().setScaleFactor(factor);
+        if (manager.indicator().getScaleFactor() != factor) {
+            manager.indicator().setScaleFactor(factor);
+            onIndicatorChanged(false);
+        }
     }
 
     /**
@@ -336,8 +554,7 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
             strokePx = radiusPx;
         }
 
-        manager.indicator().setStroke((int) strokePx);
-        invalidate();
+        setStrokePx((int) strokePx);
     }
 
     /**
@@ -358,8 +575,7 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
             strokePx = radiusPx;
         }
 
-        manager.indicator().setStroke(strokePx);
-        invalidate();
+        setStrokePx(strokePx);
     }
 
     /**
@@ -375,8 +591,10 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
      * @param color color selected circle.
      */
     public void setSelectedColor(int color) {
-        manager.indicator().setSelectedColor(color);
-        invalidate();
+        if (manager.indicator().getSelectedColor() != color) {
+            manager.indicator().setSelectedColor(color);
+            onIndicatorChanged(false);
+        }
     }
 
     /**
@@ -393,8 +611,10 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
      * @param color color of each unselected circle.
      */
     public void setUnselectedColor(int color) {
-        manager.indicator().setUnselectedColor(color);
-        invalidate();
+        if (manager.indicator().getUnselectedColor() != color) {
+            manager.indicator().setUnselectedColor(color);
+            onIndicatorChanged(false);
+        }
     }
 
     /**
@@ -427,9 +647,9 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
      * @param orientation an orientation to display page indicators.
      */
     public void setOrientation(@Nullable Orientation orientation) {
-        if (orientation != null) {
+        if (orientation != null && manager.indicator().getOrientation() != orientation) {
             manager.indicator().setOrientation(orientation);
-            requestLayout();
+            onIndicatorChanged(true);
         }
     }
 
@@ -475,14 +695,49 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
      * @param type type of animation, one of {@link AnimationType}
      */
     public void setAnimationType(@Nullable AnimationType type) {
+        if (type == null) {
+            type = AnimationType.NONE;
+        }
+
+        Indicator indicator = manager.indicator();
+        AnimationType lastType = indicator.getAnimationType();
+        if (lastType == type) {
+            return;
+        }
+
         manager.onValueUpdated(null);
+        indicator.setAnimationType(type);
 
-        if (type != null) {
-            manager.indicator().setAnimationType(type);
-        } else {
-            manager.indicator().setAnimationType(AnimationType.NONE);
+        //Drop animation needs extra space to fall from
+        boolean isLayoutChanged = (lastType == AnimationType.DROP) != (type == AnimationType.DROP);
+        onIndicatorChanged(isLayoutChanged);
+    }
+
+    /**
+     * Set interpolator applied to selection animation. Curves are precomputed into lookup tables,
+     * see {@link LookupInterpolator#create(LookupInterpolator.Curve)} to build a custom one.
+     * Default interpolator is {@link LookupInterpolator#ACCELERATE_DECELERATE}.
+     *
+     * @param interpolator interpolator to use or null to reset it to default one.
+     */
+    public void setInterpolator(@Nullable LookupInterpolator interpolator) {
+        if (interpolator == null) {
+            interpolator = LookupInterpolator.ACCELERATE_DECELERATE;
         }
-        invalidate();
+
+        Indicator indicator = manager.indicator();
+        if (indicator.getInterpolator() != interpolator) {
+            indicator.setInterpolator(interpolator);
+            onIndicatorChanged(false);
+        }
+    }
+
+    /**
+     * Return interpolator applied to selection animation.
+     */
+    @NonNull
+    public LookupInterpolator getInterpolator() {
+        return manager.indicator().getInterpolator();
     }
 
     /**
@@ -559,7 +814,7 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
         indicator.setLastSelectedPosition(position);
         indicator.setSelectingPosition(position);
         indicator.setSelectedPosition(position);
-        invalidate();
+        onIndicatorChanged(false);
     }
 
     /**
@@ -576,18 +831,7 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
      * @param position position of indicator to select.
      */
     public void setSelection(int position) {
-        Indicator indicator = manager.indicator();
-        position = adjustPosition(position);
-
-        if (position == indicator.getSelectedPosition() || position == indicator.getSelectingPosition()) {
-            return;
-        }
-
-        indicator.setInteractiveAnimation(false);
-        indicator.setLastSelectedPosition(indicator.getSelectedPosition());
-        indicator.setSelectingPosition(position);
-        indicator.setSelectedPosition(position);
-        manager.animate().basic();
+        select(position, true);
     }
 
     /**
@@ -597,12 +841,7 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
      * @param position position of indicator to select.
      */
     public void setSelected(int position) {
-        Indicator indicator = manager.indicator();
-        AnimationType animationType = indicator.getAnimationType();
-        indicator.setAnimationType(AnimationType.NONE);
-
-        setSelection(position);
-        indicator.setAnimationType(animationType);
+        select(position, false);
     }
 
     /**
@@ -615,7 +854,7 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
         indicator.setLastSelectedPosition(Indicator.COUNT_NONE);
         indicator.setSelectingPosition(Indicator.COUNT_NONE);
         indicator.setSelectedPosition(Indicator.COUNT_NONE);
-        manager.animate().basic();
+        animateBasic();
     }
 
     /**
@@ -651,13 +890,141 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
         }
 
         indicator.setSelectingPosition(selectingPosition);
-        manager.animate().interactive(progress);
+        animateInteractive(progress);
+    }
+
+    /**
+     * Cache static unselected indicators in a bitmap layer, so each frame draws only animated indicators on top of it.
+     * Default is true. Layer is not used for indicators bigger than {@link com.rd.draw.controller.LayerController#MAX_LAYER_SIDE}
+     * or {@link com.rd.draw.controller.LayerController#MAX_LAYER_PIXELS}, which are drawn directly instead.
+     *
+     * @param enabled true to use layer cache, false otherwise.
+     */
+    public void setLayerCacheEnabled(boolean enabled) {
+        Indicator indicator = manager.indicator();
+        if (indicator.isLayerCacheEnabled() != enabled) {
+            indicator.setLayerCacheEnabled(enabled);
+            onIndicatorChanged(false);
+        }
+    }
+
+    /**
+     * Return true if static unselected indicators are cached in a bitmap layer.
+     */
+    public boolean isLayerCacheEnabled() {
+        return manager.indicator().isLayerCacheEnabled();
+    }
+
+    /**
+     * Return number of frames drawn with already built layer of static indicators.
+     */
+    public int getLayerCacheHitCount() {
+        return manager.drawer().layer().getHitCount();
+    }
+
+    /**
+     * Return number of times layer of static indicators was rebuilt.
+     */
+    public int getLayerCacheRebuildCount() {
+        return manager.drawer().layer().getRebuildCount();
+    }
+
+    /**
+     * Evaluate worm, thin worm and drop animations from keyframes sampled once per transition distance and
+     * shared between positions and indicators, instead of calculating every frame. On JVM benchmarks both
+     * ways take about the same time per frame, so it's worth enabling only where interpolator is expensive.
+     * Default is false.
+     *
+     * @param baked true to use baked keyframes, false otherwise.
+     */
+    public void setBakedAnimation(boolean baked) {
+        manager.indicator().setBakedAnimation(baked);
+    }
+
+    /**
+     * Return true if animations are evaluated from baked keyframes.
+     */
+    public boolean isBakedAnimation() {
+        return manager.indicator().isBakedAnimation();
+    }
+
+    /**
+     * Look up colors of color, scale, fill and scale down animations in a 256 step gradient
+     * precomputed from selected and unselected colors, instead of blending them on every frame.
+     * Default is false.
+     *
+     * @param isEnabled true to use gradient table, false otherwise.
+     */
+    public void setColorGradientEnabled(boolean isEnabled) {
+        manager.indicator().setColorGradient(isEnabled);
+    }
+
+    /**
+     * Return true if animation colors are looked up in precomputed gradient.
+     */
+    public boolean isColorGradientEnabled() {
+        return manager.indicator().isColorGradient();
+    }
+
+    /**
+     * Blend animation colors in linear color space, which keeps perceived brightness even
+     * along the transition. Default value matches the platform ArgbEvaluator:
+     * true since {@link Build.VERSION_CODES#O}, false before.
+     *
+     * @param gammaCorrected true to blend colors in linear color space, false to blend encoded values.
+     */
+    public void setGammaCorrected(boolean gammaCorrected) {
+        manager.indicator().setGammaCorrected(gammaCorrected);
+    }
+
+    /**
+     * Return true if animation colors are blended in linear color space.
+     */
+    public boolean isGammaCorrected() {
+        return manager.indicator().isGammaCorrected();
+    }
+
+    /**
+     * Return number of animation value updates that were coalesced into last drawn frame.
+     * All updates within a frame result in single invalidation.
+     */
+    public int getFrameUpdateCount() {
+        return manager.getFrameUpdateCount();
     }
 
     public void setClickListener(@Nullable DrawController.ClickListener listener) {
         manager.drawer().setClickListener(listener);
     }
 
+    /**
+     * Set listener of indicator performance metrics: frame draw duration, animation updates, invalidations,
+     * measure and layout passes and frames dropped while pager is scrolled. Metrics are collected only
+     * while listener is set.
+     *
+     * @param listener instance of {@link IndicatorMetrics} or null to stop collecting metrics.
+     */
+    public void setMetricsListener(@Nullable IndicatorMetrics listener) {
+        metricsTracker.setListener(listener);
+        updateRefreshRate();
+    }
+
+    /**
+     * Wrap drawing, measuring, scroll handling and animation of indicator into {@link TraceCompat} sections,
+     * so they are visible in system traces. Default is false.
+     *
+     * @param traceEnabled true to add trace sections, false otherwise.
+     */
+    public void setTraceEnabled(boolean traceEnabled) {
+        isTraceEnabled = traceEnabled;
+    }
+
+    /**
+     * Return true if indicator work is wrapped into trace sections.
+     */
+    public boolean isTraceEnabled() {
+        return isTraceEnabled;
+    }
+
     private void init(@Nullable AttributeSet attrs) {
         setupId();
         initIndicatorManager(attrs);
@@ -674,7 +1041,7 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
     }
 
     private void initIndicatorManager(@Nullable AttributeSet attrs) {
-        manager = new IndicatorManager(this);
+        manager = new IndicatorManager(getContext(), this);
         manager.drawer().initAttributes(getContext(), attrs);
 
         Indicator indicator = manager.indicator();
@@ -683,6 +1050,7 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
         indicator.setPaddingRight(getPaddingRight());
         indicator.setPaddingBottom(getPaddingBottom());
         isInteractionEnabled = indicator.isInteractiveAnimation();
+        updateWindow();
     }
 
     private void registerObserver() {
@@ -713,11 +1081,154 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
         manager.indicator().setLastSelectedPosition(selectedPos);
         manager.indicator().setCount(count);
         manager.animate().end();
+        updateWindow();
 
         updateVisibility();
         requestLayout();
     }
 
+    private void setRadiusPx(int radiusPx) {
+        if (manager.indicator().getRadius() != radiusPx) {
+            manager.indicator().setRadius(radiusPx);
+            onIndicatorChanged(true);
+        }
+    }
+
+    private void setPaddingPx(int paddingPx) {
+        if (manager.indicator().getPadding() != paddingPx) {
+            manager.indicator().setPadding(paddingPx);
+            onIndicatorChanged(true);
+        }
+    }
+
+    private void setStrokePx(int strokePx) {
+        if (manager.indicator().getStroke() != strokePx) {
+            manager.indicator().setStroke(strokePx);
+            onIndicatorChanged(true);
+        }
+    }
+
+    /**
+     * Request layout and redraw after indicator configuration is changed, or postpone
+     * them until all changes of current {@link Editor} are applied.
+     *
+     * @param isLayoutChanged true if changed value affects size of the view.
+     */
+    private void onIndicatorChanged(boolean isLayoutChanged) {
+        if (editDepth > 0) {
+            isLayoutPending |= isLayoutChanged;
+            isInvalidatePending = true;
+            return;
+        }
+
+        if (isLayoutChanged) {
+            requestLayout();
+        }
+        metricsTracker.onInvalidate();
+        invalidate();
+    }
+
+    private void beginEdit() {
+        editDepth++;
+    }
+
+    /**
+     * Apply batch left open, e.g. when {@link Editor#apply()} was not called, so setters don't stay batched forever.
+     */
+    private void resetEdit() {
+        if (editDepth > 0) {
+            editGeneration++;
+            editDepth = 1;
+            endEdit();
+        }
+    }
+
+    private void endEdit() {
+        if (editDepth == 0 || --editDepth > 0) {
+            return;
+        }
+
+        boolean isLayoutChanged = isLayoutPending;
+        boolean isInvalidateNeeded = isInvalidatePending;
+        isLayoutPending = false;
+        isInvalidatePending = false;
+
+        if (isInvalidateNeeded) {
+            onIndicatorChanged(isLayoutChanged);
+        }
+    }
+
+    private void resetAnimation() {
+        manager.animate().end();
+        manager.onValueUpdated(null);
+    }
+
+    private void updateWindow() {
+        Indicator indicator = manager.indicator();
+        indicator.setWindowOffset(CoordinatesUtils.getWindowOffset(indicator, indicator.getSelectedPosition()));
+    }
+
+    private void select(int position, boolean isAnimated) {
+        Indicator indicator = manager.indicator();
+        position = adjustPosition(position);
+
+        if (position == indicator.getSelectedPosition() || position == indicator.getSelectingPosition()) {
+            return;
+        }
+
+        indicator.setInteractiveAnimation(false);
+        indicator.setLastSelectedPosition(indicator.getSelectedPosition());
+        indicator.setSelectingPosition(position);
+        indicator.setSelectedPosition(position);
+
+        if (isAnimated) {
+            animateBasic();
+        } else {
+            animateNone();
+        }
+    }
+
+    private void animateBasic() {
+        beginTrace(TRACE_ANIMATE);
+        manager.animate().basic();
+        endTrace();
+    }
+
+    private void animateNone() {
+        beginTrace(TRACE_ANIMATE);
+        manager.animate().none();
+        endTrace();
+    }
+
+    private void animateInteractive(float progress) {
+        beginTrace(TRACE_ANIMATE);
+        manager.animate().interactive(progress);
+        endTrace();
+    }
+
+    private void beginTrace(@NonNull String sectionName) {
+        if (isTraceEnabled) {
+            TraceCompat.beginSection(sectionName);
+        }
+    }
+
+    private void endTrace() {
+        if (isTraceEnabled) {
+            TraceCompat.endSection();
+        }
+    }
+
+    private void updateRefreshRate() {
+        if (!metricsTracker.isEnabled()) {
+            return;
+        }
+
+        Display display = ViewCompat.getDisplay(this);
+        if (display != null) {
+            metricsTracker.setRefreshRate(display.getRefreshRate());
+        }
+    }
+
     private void updateVisibility() {
         if (!manager.indicator().isAutoVisibility()) {
             return;
@@ -758,10 +1269,8 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
             return;
         }
 
-        Pair<Integer, Float> progressPair = CoordinatesUtils.getProgress(indicator, position, positionOffset, isRtl());
-        int selectingPosition = progressPair.first;
-        float selectingProgress = progressPair.second;
-        setProgress(selectingPosition, selectingProgress);
+        CoordinatesUtils.getProgress(indicator, position, positionOffset, isRtl(), selectingProgress);
+        setProgress(selectingProgress.getPosition(), selectingProgress.getProgress());
     }
 
     private boolean isRtl() {
@@ -800,6 +1309,8 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
                 setViewPager(new ViewPagerAttacher((ViewPager) viewPager));
             } else if(viewPager instanceof ViewPager2) {
                 setViewPager(new ViewPager2Attacher((ViewPager2) viewPager));
+            } else if(viewPager instanceof RecyclerView) {
+                setViewPager(new RecyclerViewAttacher((RecyclerView) viewPager));
             }
         } else {
             findViewPager(viewParent.getParent());
@@ -814,7 +1325,7 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
 
         View view = viewGroup.findViewById(id);
         if (view != null
-                && (view instanceof ViewPager || view instanceof ViewPager2)) {
+                && (view instanceof ViewPager || view instanceof ViewPager2 || view instanceof RecyclerView)) {
             return view;
         } else {
             return null;
@@ -937,4 +1448,148 @@ public class PageIndicatorView extends View implements IndicatorManager.Listener
 
     }
 
+
+    /**
+     * Interface definition for a batch of configuration changes, see {@link #edit(EditAction)}.
+     */
+    public interface EditAction {
+
+        /**
+         * @param editor editor to make configuration changes with.
+         */
+        void onEdit(@NonNull Editor editor);
+    }
+
+    /**
+     * Batch of configuration changes started with {@link #edit()}. Every setter has the same effect
+     * as corresponding setter of {@link PageIndicatorView}.
+     */
+    public final class Editor {
+
+        private final int generation;
+        private boolean isApplied;
+
+        private Editor(int generation) {
+            this.generation = generation;
+        }
+
+        @NonNull
+        public Editor setCount(int count) {
+            PageIndicatorView.this.setCount(count);
+            return this;
+        }
+
+        @NonNull
+        public Editor setMaxVisibleCount(int maxVisibleCount) {
+            PageIndicatorView.this.setMaxVisibleCount(maxVisibleCount);
+            return this;
+        }
+
+        @NonNull
+        public Editor setRadius(int radiusDp) {
+            PageIndicatorView.this.setRadius(radiusDp);
+            return this;
+        }
+
+        @NonNull
+        public Editor setRadius(float radiusPx) {
+            PageIndicatorView.this.setRadius(radiusPx);
+            return this;
+        }
+
+        @NonNull
+        public Editor setPadding(int paddingDp) {
+            PageIndicatorView.this.setPadding(paddingDp);
+            return this;
+        }
+
+        @NonNull
+        public Editor setPadding(float paddingPx) {
+            PageIndicatorView.this.setPadding(paddingPx);
+            return this;
+        }
+
+        @NonNull
+        public Editor setStrokeWidth(int strokeDp) {
+            PageIndicatorView.this.setStrokeWidth(strokeDp);
+            return this;
+        }
+
+        @NonNull
+        public Editor setStrokeWidth(float strokePx) {
+            PageIndicatorView.this.setStrokeWidth(strokePx);
+            return this;
+        }
+
+        @NonNull
+        public Editor setScaleFactor(float factor) {
+            PageIndicatorView.this.setScaleFactor(factor);
+            return this;
+        }
+
+        @NonNull
+        public Editor setSelectedColor(int color) {
+            PageIndicatorView.this.setSelectedColor(color);
+            return this;
+        }
+
+        @NonNull
+        public Editor setUnselectedColor(int color) {
+            PageIndicatorView.this.setUnselectedColor(color);
+            return this;
+        }
+
+        @NonNull
+        public Editor setOrientation(@Nullable Orientation orientation) {
+            PageIndicatorView.this.setOrientation(orientation);
+            return this;
+        }
+
+        @NonNull
+        public Editor setAnimationType(@Nullable AnimationType type) {
+            PageIndicatorView.this.setAnimationType(type);
+            return this;
+        }
+
+        @NonNull
+        public Editor setAnimationDuration(long duration) {
+            PageIndicatorView.this.setAnimationDuration(duration);
+            return this;
+        }
+
+        @NonNull
+        public Editor setInterpolator(@Nullable LookupInterpolator interpolator) {
+            PageIndicatorView.this.setInterpolator(interpolator);
+            return this;
+        }
+
+        @NonNull
+        public Editor setInteractiveAnimation(boolean isInteractive) {
+            PageIndicatorView.this.setInteractiveAnimation(isInteractive);
+            return this;
+        }
+
+        @NonNull
+        public Editor setRtlMode(@Nullable RtlMode mode) {
+            PageIndicatorView.this.setRtlMode(mode);
+            return this;
+        }
+
+        /**
+         * Finish batch and request layout and redraw once if any value has changed.
+         * Changes made with editor after it is applied are not batched anymore.
+         * Does nothing if batch has already been applied on attach or {@link #bind(IndicatorState)},
+         * so batches started after that are not finished early.
+         */
+        public void apply() {
+            if (isApplied) {
+                return;
+            }
+
+            isApplied = true;
+            if (generation == editGeneration) {
+                endEdit();
+            }
+        }
+    }
 }
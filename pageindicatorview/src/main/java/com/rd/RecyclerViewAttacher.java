@@ -0,0 +1,191 @@
+package com.rd;
+
+import android.view.MotionEvent;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.rd.draw.data.SelectingProgress;
+import com.rd.utils.RecyclerViewUtils;
+
+/**
+ * Attacher for {@link RecyclerView} laid out by {@link LinearLayoutManager}, e.g. a carousel with
+ * {@link androidx.recyclerview.widget.PagerSnapHelper}. Items are treated as pages: scroll position and offset
+ * are taken from layout of the first visible item and page nearest to list start is the current one.
+ */
+class RecyclerViewAttacher implements PageIndicatorView.PagerAttacher {
+
+    private RecyclerView.AdapterDataObserver adapterDataObserver;
+    private RecyclerView.OnScrollListener onScrollListener;
+    private RecyclerView.OnItemTouchListener onItemTouchListener;
+
+    private RecyclerView recyclerView;
+    private RecyclerView.Adapter adapter;
+
+    private ScrollActionsListener listener;
+    private final SelectingProgress scrollPosition = new SelectingProgress();
+    private int currentItem;
+
+    public RecyclerViewAttacher(@NonNull RecyclerView recyclerView) {
+        this.recyclerView = recyclerView;
+        this.adapter = recyclerView.getAdapter();
+        this.currentItem = findCurrentItem();
+    }
+
+    @Override
+    public int getId() {
+        return recyclerView.getId();
+    }
+
+    @Override
+    public void attachToPager(@NonNull final ScrollActionsListener listener, boolean isDynamicCount) {
+        this.listener = listener;
+
+        registerObserver();
+
+        onScrollListener = new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (RecyclerViewUtils.getScrollPosition(recyclerView, scrollPosition)) {
+                    listener.onPageScrolled(scrollPosition.getPosition(), scrollPosition.getProgress());
+                }
+
+                //Scroll without gesture, e.g. scrollToPosition, is not followed by idle state
+                if (recyclerView.getScrollState() == RecyclerView.SCROLL_STATE_IDLE) {
+                    updateCurrentItem();
+                }
+            }
+
+            @Override
+            public void onScrollStateChanged(@NonNull RecyclerView recyclerView, int newState) {
+                if (newState == RecyclerView.SCROLL_STATE_IDLE) {
+                    updateCurrentItem();
+                    listener.onPagerScrollIsIdle();
+                }
+            }
+        };
+
+        onItemTouchListener = new RecyclerView.SimpleOnItemTouchListener() {
+            @Override
+            public boolean onInterceptTouchEvent(@NonNull RecyclerView recyclerView, @NonNull MotionEvent event) {
+                listener.onTouch(event);
+                return false;
+            }
+        };
+
+        recyclerView.addOnScrollListener(onScrollListener);
+        recyclerView.addOnItemTouchListener(onItemTouchListener);
+    }
+
+    @Override
+    public void detachFromPager() {
+        unregisterObserver();
+        recyclerView.removeOnScrollListener(onScrollListener);
+        recyclerView.removeOnItemTouchListener(onItemTouchListener);
+    }
+
+    @Override
+    public boolean isAttached() {
+        return recyclerView != null;
+    }
+
+    @Override
+    public void registerObserver() {
+        if (adapterDataObserver != null || adapter == null) {
+            return;
+        }
+
+        adapterDataObserver = new RecyclerView.AdapterDataObserver() {
+            @Override
+            public void onChanged() {
+                super.onChanged();
+                onDataChanged();
+            }
+
+            @Override
+            public void onItemRangeChanged(int positionStart, int itemCount) {
+                super.onItemRangeChanged(positionStart, itemCount);
+                onDataChanged();
+            }
+
+            @Override
+            public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+                super.onItemRangeChanged(positionStart, itemCount, payload);
+                onDataChanged();
+            }
+
+            @Override
+            public void onItemRangeInserted(int positionStart, int itemCount) {
+                super.onItemRangeInserted(positionStart, itemCount);
+                onDataChanged();
+            }
+
+            @Override
+            public void onItemRangeRemoved(int positionStart, int itemCount) {
+                super.onItemRangeRemoved(positionStart, itemCount);
+                onDataChanged();
+            }
+
+            @Override
+            public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+                super.onItemRangeMoved(fromPosition, toPosition, itemCount);
+                onDataChanged();
+            }
+        };
+
+        adapter.registerAdapterDataObserver(adapterDataObserver);
+    }
+
+    @Override
+    public void unregisterObserver() {
+        if (adapterDataObserver == null || adapter == null) {
+            return;
+        }
+
+        try {
+            adapter.unregisterAdapterDataObserver(adapterDataObserver);
+            adapterDataObserver = null;
+        } catch (IllegalStateException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public int getCurrentItem() {
+        return currentItem;
+    }
+
+    @Override
+    public int getCount() {
+        return adapter != null ? adapter.getItemCount() : 0;
+    }
+
+    private void onDataChanged() {
+        //Items before current one could be inserted or removed, so it's found again before state is read
+        currentItem = findCurrentItem();
+        listener.updateState();
+    }
+
+    private void updateCurrentItem() {
+        int item = findCurrentItem();
+        if (currentItem != item) {
+            currentItem = item;
+            listener.onPageSelected(item);
+        }
+    }
+
+    private int findCurrentItem() {
+        if (!RecyclerViewUtils.getScrollPosition(recyclerView, scrollPosition)) {
+            return currentItem;
+        }
+
+        int item = scrollPosition.getPosition();
+        if (scrollPosition.getProgress() >= 0.5f) {
+            item++;
+        }
+
+        return Math.max(0, Math.min(item, getCount() - 1));
+    }
+}
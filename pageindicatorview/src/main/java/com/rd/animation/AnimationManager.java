@@ -20,6 +20,13 @@ public class AnimationManager {
         }
     }
 
+    public void none() {
+        if (animationController != null) {
+            animationController.end();
+            animationController.none();
+        }
+    }
+
     public void interactive(float progress) {
         if (animationController != null) {
             animationController.interactive(progress);
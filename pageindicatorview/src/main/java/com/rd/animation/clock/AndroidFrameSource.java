@@ -0,0 +1,118 @@
+package com.rd.animation.clock;
+
+import android.animation.ValueAnimator;
+import android.annotation.TargetApi;
+import android.content.ContentResolver;
+import android.content.Context;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.provider.Settings;
+import android.view.Choreographer;
+import androidx.annotation.NonNull;
+
+/**
+ * Default {@link FrameClock.FrameSource} backed by {@link Choreographer},
+ * or by main thread {@link Handler} on platforms where it is not available.
+ * Durations are scaled the same way as {@link ValueAnimator} ones, following system animator duration scale.
+ */
+public class AndroidFrameSource implements FrameClock.FrameSource {
+
+    private static final long FRAME_DELAY_MS = 16;
+
+    private final ContentResolver contentResolver;
+
+    private FrameClock clock;
+    private Object choreographerCallback;
+    private Handler handler;
+
+    private final Runnable frameRunnable = new Runnable() {
+        @Override
+        public void run() {
+            onFrame(System.nanoTime());
+        }
+    };
+
+    public AndroidFrameSource(@NonNull Context context) {
+        this.contentResolver = context.getApplicationContext().getContentResolver();
+    }
+
+    @Override
+    public long now() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void postFrame(@NonNull FrameClock clock) {
+        this.clock = clock;
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            postChoreographerFrame();
+        } else {
+            getHandler().postDelayed(frameRunnable, FRAME_DELAY_MS);
+        }
+    }
+
+    @Override
+    public void removeFrame(@NonNull FrameClock clock) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            removeChoreographerFrame();
+        } else {
+            getHandler().removeCallbacks(frameRunnable);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public float getDurationScale() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            return ValueAnimator.getDurationScale();
+
+        } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
+            return Settings.Global.getFloat(contentResolver, Settings.Global.ANIMATOR_DURATION_SCALE, 1);
+
+        } else {
+            return Settings.System.getFloat(contentResolver, Settings.System.ANIMATOR_DURATION_SCALE, 1);
+        }
+    }
+
+    private void onFrame(long frameTimeNanos) {
+        if (clock != null) {
+            clock.doFrame(frameTimeNanos);
+        }
+    }
+
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private void postChoreographerFrame() {
+        Choreographer.getInstance().postFrameCallback(getChoreographerCallback());
+    }
+
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private void removeChoreographerFrame() {
+        Choreographer.getInstance().removeFrameCallback(getChoreographerCallback());
+    }
+
+    @NonNull
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private Choreographer.FrameCallback getChoreographerCallback() {
+        if (choreographerCallback == null) {
+            choreographerCallback = new Choreographer.FrameCallback() {
+                @Override
+                public void doFrame(long frameTimeNanos) {
+                    onFrame(frameTimeNanos);
+                }
+            };
+        }
+
+        return (Choreographer.FrameCallback) choreographerCallback;
+    }
+
+    @NonNull
+    private Handler getHandler() {
+        if (handler == null) {
+            handler = new Handler(Looper.getMainLooper());
+        }
+
+        return handler;
+    }
+}
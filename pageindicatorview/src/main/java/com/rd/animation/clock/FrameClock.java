@@ -0,0 +1,204 @@
+package com.rd.animation.clock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single frame scheduler shared by all indicators. Every frame it ticks all active animations
+ * in one pass and stops requesting frames as soon as nothing is animating.
+ * Must be used from the main thread only.
+ * Clock does not depend on Android itself, platform frames are provided by {@link FrameSource}.
+ */
+public class FrameClock {
+
+    private static FrameClock instance;
+
+    private FrameSource source;
+    private boolean isFrameScheduled;
+
+    //Callbacks removed while frame is dispatched are replaced with null and dropped once dispatch is over
+    private final List<FrameCallback> callbacks = new ArrayList<>();
+    private boolean isDispatching;
+
+    /**
+     * Interface definition for a callback to be invoked on every frame while it is added to {@link FrameClock}.
+     */
+    public interface FrameCallback {
+
+        /**
+         * @param frameTimeNanos time of current frame in {@link System#nanoTime()} time base.
+         * @return true to receive next frame as well, false to be removed from clock.
+         */
+        boolean doFrame(long frameTimeNanos);
+    }
+
+    /**
+     * Source of frames and time for {@link FrameClock}. Could be replaced to drive animations with fake time.
+     */
+    public interface FrameSource {
+
+        /**
+         * @return current time in {@link System#nanoTime()} time base.
+         */
+        long now();
+
+        /**
+         * Request single call of {@link FrameClock#doFrame(long)} on next frame.
+         */
+        void postFrame(@NonNull FrameClock clock);
+
+        /**
+         * Cancel frame previously requested with {@link #postFrame(FrameClock)}.
+         */
+        void removeFrame(@NonNull FrameClock clock);
+
+        /**
+         * @return scale applied to animation durations, 0 if animations are disabled.
+         */
+        float getDurationScale();
+    }
+
+    @NonNull
+    public static FrameClock getInstance() {
+        if (instance == null) {
+            instance = new FrameClock(null);
+        }
+
+        return instance;
+    }
+
+
+    /**
+     * Replace source of frames used by shared {@link FrameClock}, e.g. with fake one in tests.
+     *
+     * @param source instance of {@link FrameSource} to use.
+     */
+    public static void setFrameSource(@NonNull FrameSource source) {
+        FrameClock clock = getInstance();
+        if (clock.isFrameScheduled && clock.source != null) {
+            clock.source.removeFrame(clock);
+            clock.isFrameScheduled = false;
+        }
+
+        clock.source = source;
+        clock.scheduleFrame();
+    }
+
+    FrameClock(@Nullable FrameSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Return true if source of frames is set, otherwise added callbacks wait for it.
+     */
+    public boolean hasFrameSource() {
+        return source != null;
+    }
+
+    public long now() {
+        if (source == null) {
+            return System.nanoTime();
+        }
+
+        return source.now();
+    }
+
+    /**
+     * Return scale applied to animation durations, e.g. from developer options or accessibility settings.
+     * Animations should be finished right away if it is 0.
+     */
+    public float getDurationScale() {
+        if (source == null) {
+            return 1;
+        }
+
+        return source.getDurationScale();
+    }
+
+    public void add(@NonNull FrameCallback callback) {
+        if (!callbacks.contains(callback)) {
+            callbacks.add(callback);
+        }
+
+        scheduleFrame();
+    }
+
+    public void remove(@NonNull FrameCallback callback) {
+        int index = callbacks.indexOf(callback);
+        if (index < 0) {
+            return;
+        }
+
+        if (isDispatching) {
+            callbacks.set(index, null);
+            return;
+        }
+
+        callbacks.remove(index);
+        if (callbacks.isEmpty() && isFrameScheduled && source != null) {
+            source.removeFrame(this);
+            isFrameScheduled = false;
+        }
+    }
+
+    public boolean isRunning() {
+        for (int i = 0; i < callbacks.size(); i++) {
+            if (callbacks.get(i) != null) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Tick all added callbacks. Called by {@link FrameSource} once per requested frame.
+     * Callbacks added while frame is dispatched are ticked starting from the next frame.
+     *
+     * @param frameTimeNanos time of current frame in {@link System#nanoTime()} time base.
+     */
+    public void doFrame(long frameTimeNanos) {
+        isFrameScheduled = false;
+        isDispatching = true;
+
+        int count = callbacks.size();
+        for (int i = 0; i < count; i++) {
+            FrameCallback callback = callbacks.get(i);
+            if (callback != null && !callback.doFrame(frameTimeNanos)) {
+                callbacks.set(i, null);
+            }
+        }
+
+        isDispatching = false;
+        removeFinished();
+        scheduleFrame();
+    }
+
+    /**
+     * Drop finished and removed callbacks in a single pass, keeping order of remaining ones.
+     */
+    private void removeFinished() {
+        int size = 0;
+        for (int i = 0; i < callbacks.size(); i++) {
+            FrameCallback callback = callbacks.get(i);
+            if (callback != null) {
+                callbacks.set(size++, callback);
+            }
+        }
+
+        for (int i = callbacks.size() - 1; i >= size; i--) {
+            callbacks.remove(i);
+        }
+    }
+
+    private void scheduleFrame() {
+        //Without source frames are requested as soon as it is set
+        if (!isFrameScheduled && !callbacks.isEmpty() && source != null) {
+            isFrameScheduled = true;
+            source.postFrame(this);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.rd.animation.controller;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import com.rd.animation.type.AnimationType;
 import com.rd.animation.type.BaseAnimation;
 import com.rd.draw.data.Indicator;
@@ -9,10 +10,13 @@ import com.rd.utils.CoordinatesUtils;
 
 public class AnimationController {
 
+    private static final KeyframeCache KEYFRAME_CACHE = new KeyframeCache(KeyframeCache.DEFAULT_MAX_SIZE, KeyframeCache.DEFAULT_RESOLUTION);
+
     private ValueController valueController;
     private ValueController.UpdateListener listener;
 
     private BaseAnimation runningAnimation;
+    private BaseAnimation windowAnimation;
     private Indicator indicator;
 
     private float progress;
@@ -27,23 +31,38 @@ public class AnimationController {
     public void interactive(float progress) {
         this.isInteractive = true;
         this.progress = progress;
-        animate();
+        animate(indicator.getAnimationType());
     }
 
     public void basic() {
         this.isInteractive = false;
         this.progress = 0;
-        animate();
+        animate(indicator.getAnimationType());
+    }
+
+    /**
+     * Apply selection without animation, regardless of animation type.
+     */
+    public void none() {
+        this.isInteractive = false;
+        this.progress = 0;
+        animate(AnimationType.NONE);
     }
 
     public void end() {
         if (runningAnimation != null) {
             runningAnimation.end();
         }
+
+        if (windowAnimation != null) {
+            windowAnimation.end();
+        }
     }
 
-    private void animate() {
-        AnimationType animationType = indicator.getAnimationType();
+    private void animate(@NonNull AnimationType animationType) {
+        valueController.setInterpolator(indicator.getInterpolator());
+        windowAnimation(animationType);
+
         switch (animationType) {
             case NONE:
                 listener.onValueUpdated(null);
@@ -87,6 +106,47 @@ public class AnimationController {
         }
     }
 
+    private void windowAnimation(@NonNull AnimationType animationType) {
+        if (!CoordinatesUtils.isWindowed(indicator)) {
+            indicator.setWindowOffset(0);
+            return;
+        }
+
+        if (isInteractive) {
+            if (windowAnimation != null) {
+                windowAnimation.end();
+            }
+
+            //Window follows scroll position, so it is updated along with selecting indicator
+            int selectedPosition = indicator.getSelectedPosition();
+            int selectingPosition = indicator.getSelectingPosition();
+            float position = selectedPosition + (selectingPosition - selectedPosition) * progress;
+
+            indicator.setWindowOffset(CoordinatesUtils.getWindowOffset(indicator, position));
+            return;
+        }
+
+        float offsetStart = indicator.getWindowOffset();
+        float offsetEnd = CoordinatesUtils.getWindowOffset(indicator, indicator.getSelectedPosition());
+        if (offsetStart == offsetEnd) {
+            return;
+        }
+
+        if (animationType == AnimationType.NONE) {
+            indicator.setWindowOffset(offsetEnd);
+            return;
+        }
+
+        long animationDuration = indicator.getAnimationDuration();
+        BaseAnimation animation = valueController
+                .window()
+                .with(offsetStart, offsetEnd)
+                .duration(animationDuration);
+
+        animation.start();
+        windowAnimation = animation;
+    }
+
     private void colorAnimation() {
         int selectedColor = indicator.getSelectedColor();
         int unselectedColor = indicator.getUnselectedColor();
@@ -95,6 +155,8 @@ public class AnimationController {
         BaseAnimation animation = valueController
                 .color()
                 .with(unselectedColor, selectedColor)
+                .gammaCorrected(indicator.isGammaCorrected())
+                .gradient(indicator.isColorGradient())
                 .duration(animationDuration);
 
         if (isInteractive) {
@@ -116,6 +178,8 @@ public class AnimationController {
         BaseAnimation animation = valueController
                 .scale()
                 .with(unselectedColor, selectedColor, radiusPx, scaleFactor)
+                .gammaCorrected(indicator.isGammaCorrected())
+                .gradient(indicator.isColorGradient())
                 .duration(animationDuration);
 
         if (isInteractive) {
@@ -141,7 +205,8 @@ public class AnimationController {
         BaseAnimation animation = valueController
                 .worm()
                 .with(from, to, radiusPx, isRightSide)
-                .duration(animationDuration);
+                .duration(animationDuration)
+                .keyframes(getKeyframeCache());
 
         if (isInteractive) {
             animation.progress(progress);
@@ -184,6 +249,8 @@ public class AnimationController {
         BaseAnimation animation = valueController
                 .fill()
                 .with(unselectedColor, selectedColor, radiusPx, strokePx)
+                .gammaCorrected(indicator.isGammaCorrected())
+                .gradient(indicator.isColorGradient())
                 .duration(animationDuration);
 
         if (isInteractive) {
@@ -209,7 +276,8 @@ public class AnimationController {
         BaseAnimation animation = valueController
                 .thinWorm()
                 .with(from, to, radiusPx, isRightSide)
-                .duration(animationDuration);
+                .duration(animationDuration)
+                .keyframes(getKeyframeCache());
 
         if (isInteractive) {
             animation.progress(progress);
@@ -240,7 +308,8 @@ public class AnimationController {
         BaseAnimation animation = valueController
                 .drop()
                 .duration(animationDuration)
-                .with(widthFrom, widthTo, heightFrom, heightTo, radius);
+                .with(widthFrom, widthTo, heightFrom, heightTo, radius)
+                .keyframes(getKeyframeCache());
 
         if (isInteractive) {
             animation.progress(progress);
@@ -283,6 +352,8 @@ public class AnimationController {
         BaseAnimation animation = valueController
                 .scaleDown()
                 .with(unselectedColor, selectedColor, radiusPx, scaleFactor)
+                .gammaCorrected(indicator.isGammaCorrected())
+                .gradient(indicator.isColorGradient())
                 .duration(animationDuration);
 
         if (isInteractive) {
@@ -293,5 +364,9 @@ public class AnimationController {
 
         runningAnimation = animation;
     }
-}
 
+    @Nullable
+    private KeyframeCache getKeyframeCache() {
+        return indicator.isBakedAnimation() ? KEYFRAME_CACHE : null;
+    }
+}
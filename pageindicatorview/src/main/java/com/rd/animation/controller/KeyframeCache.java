@@ -0,0 +1,58 @@
+package com.rd.animation.controller;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.rd.animation.data.Keyframes;
+import com.rd.animation.type.BaseAnimation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of baked animation transitions, keyed by {@link Keyframes.Key}.
+ */
+public class KeyframeCache {
+
+    public static final int DEFAULT_MAX_SIZE = 32;
+    public static final int DEFAULT_RESOLUTION = 64;
+
+    private final Keyframes.Key lookupKey = new Keyframes.Key();
+    private final LinkedHashMap<Keyframes.Key, Keyframes> cache;
+    private final int resolution;
+
+    public KeyframeCache(final int maxSize, int resolution) {
+        this.resolution = resolution;
+        this.cache = new LinkedHashMap<Keyframes.Key, Keyframes>(maxSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Keyframes.Key, Keyframes> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Return keyframes of current animation transition, baking them if they are not cached yet.
+     *
+     * @return keyframes or null if animation could not be baked.
+     */
+    @Nullable
+    public synchronized Keyframes get(@NonNull BaseAnimation animation) {
+        if (!animation.isBakeable()) {
+            return null;
+        }
+
+        animation.getKeyframesKey(lookupKey);
+        Keyframes keyframes = cache.get(lookupKey);
+
+        if (keyframes == null) {
+            keyframes = animation.bake(resolution);
+            cache.put(new Keyframes.Key(lookupKey), keyframes);
+        }
+
+        return keyframes;
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+    }
+}
@@ -3,6 +3,7 @@ package com.rd.animation.controller;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.rd.animation.data.Value;
+import com.rd.animation.interpolator.LookupInterpolator;
 import com.rd.animation.type.*;
 
 public class ValueController {
@@ -16,8 +17,10 @@ public class ValueController {
     private DropAnimation dropAnimation;
     private SwapAnimation swapAnimation;
     private ScaleDownAnimation scaleDownAnimation;
+    private WindowAnimation windowAnimation;
 
     private UpdateListener updateListener;
+    private LookupInterpolator interpolator = LookupInterpolator.ACCELERATE_DECELERATE;
 
     public interface UpdateListener {
         void onValueUpdated(@Nullable Value value);
@@ -27,10 +30,31 @@ public class ValueController {
         updateListener = listener;
     }
 
+    /**
+     * Set interpolator used by all animations, both already created and created later.
+     */
+    public void setInterpolator(@NonNull LookupInterpolator interpolator) {
+        if (this.interpolator == interpolator) {
+            return;
+        }
+
+        this.interpolator = interpolator;
+        BaseAnimation[] animations = {colorAnimation, scaleAnimation, wormAnimation, slideAnimation, fillAnimation,
+                thinWormAnimation, dropAnimation, swapAnimation, scaleDownAnimation, windowAnimation};
+
+        for (BaseAnimation animation : animations) {
+            if (animation != null) {
+                animation.interpolator(interpolator);
+            }
+        }
+    }
+
     @NonNull
     public ColorAnimation color() {
         if (colorAnimation == null) {
+            releaseAnimations();
             colorAnimation = new ColorAnimation(updateListener);
+            colorAnimation.interpolator(interpolator);
         }
 
         return colorAnimation;
@@ -39,7 +63,9 @@ public class ValueController {
     @NonNull
     public ScaleAnimation scale() {
         if (scaleAnimation == null) {
+            releaseAnimations();
             scaleAnimation = new ScaleAnimation(updateListener);
+            scaleAnimation.interpolator(interpolator);
         }
 
         return scaleAnimation;
@@ -48,7 +74,9 @@ public class ValueController {
     @NonNull
     public WormAnimation worm() {
         if (wormAnimation == null) {
+            releaseAnimations();
             wormAnimation = new WormAnimation(updateListener);
+            wormAnimation.interpolator(interpolator);
         }
 
         return wormAnimation;
@@ -57,7 +85,9 @@ public class ValueController {
     @NonNull
     public SlideAnimation slide() {
         if (slideAnimation == null) {
+            releaseAnimations();
             slideAnimation = new SlideAnimation(updateListener);
+            slideAnimation.interpolator(interpolator);
         }
 
         return slideAnimation;
@@ -66,7 +96,9 @@ public class ValueController {
     @NonNull
     public FillAnimation fill() {
         if (fillAnimation == null) {
+            releaseAnimations();
             fillAnimation = new FillAnimation(updateListener);
+            fillAnimation.interpolator(interpolator);
         }
 
         return fillAnimation;
@@ -75,7 +107,9 @@ public class ValueController {
     @NonNull
     public ThinWormAnimation thinWorm() {
         if (thinWormAnimation == null) {
+            releaseAnimations();
             thinWormAnimation = new ThinWormAnimation(updateListener);
+            thinWormAnimation.interpolator(interpolator);
         }
 
         return thinWormAnimation;
@@ -84,7 +118,9 @@ public class ValueController {
     @NonNull
     public DropAnimation drop() {
         if (dropAnimation == null) {
+            releaseAnimations();
             dropAnimation = new DropAnimation(updateListener);
+            dropAnimation.interpolator(interpolator);
         }
 
         return dropAnimation;
@@ -93,7 +129,9 @@ public class ValueController {
     @NonNull
     public SwapAnimation swap() {
         if (swapAnimation == null) {
+            releaseAnimations();
             swapAnimation = new SwapAnimation(updateListener);
+            swapAnimation.interpolator(interpolator);
         }
 
         return swapAnimation;
@@ -102,9 +140,53 @@ public class ValueController {
     @NonNull
     public ScaleDownAnimation scaleDown() {
         if (scaleDownAnimation == null) {
+            releaseAnimations();
             scaleDownAnimation = new ScaleDownAnimation(updateListener);
+            scaleDownAnimation.interpolator(interpolator);
         }
 
         return scaleDownAnimation;
     }
+
+    @NonNull
+    public WindowAnimation window() {
+        if (windowAnimation == null) {
+            windowAnimation = new WindowAnimation(updateListener);
+            windowAnimation.interpolator(interpolator);
+        }
+
+        return windowAnimation;
+    }
+
+    /**
+     * End and release animations of all types except window one. Indicator runs one animation type
+     * at a time, so animations are created on first use of their type and released once another type is used.
+     */
+    private void releaseAnimations() {
+        end(colorAnimation);
+        end(scaleAnimation);
+        end(wormAnimation);
+        end(slideAnimation);
+        end(fillAnimation);
+        end(thinWormAnimation);
+        end(dropAnimation);
+        end(swapAnimation);
+        end(scaleDownAnimation);
+
+        colorAnimation = null;
+        scaleAnimation = null;
+        wormAnimation = null;
+        slideAnimation = null;
+        fillAnimation = null;
+        thinWormAnimation = null;
+        dropAnimation = null;
+        swapAnimation = null;
+        scaleDownAnimation = null;
+    }
+
+    private void end(@Nullable BaseAnimation animation) {
+        if (animation != null) {
+            animation.end();
+        }
+    }
 }
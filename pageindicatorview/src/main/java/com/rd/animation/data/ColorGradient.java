@@ -0,0 +1,61 @@
+package com.rd.animation.data;
+
+import com.rd.utils.InterpolationUtils;
+
+/**
+ * Colors between two colors precomputed at fixed steps, so each frame resolves
+ * a color with a single lookup. Table is rebuilt only when colors or blending are changed.
+ */
+public class ColorGradient {
+
+    public static final int STEPS = 256;
+
+    private final int[] colors = new int[STEPS];
+
+    private int startColor;
+    private int endColor;
+    private boolean gammaCorrected;
+    private boolean isBuilt;
+
+    /**
+     * Make sure table holds colors between start and end colors.
+     */
+    public void set(int startColor, int endColor, boolean gammaCorrected) {
+        if (isBuilt && this.startColor == startColor && this.endColor == endColor && this.gammaCorrected == gammaCorrected) {
+            return;
+        }
+
+        this.startColor = startColor;
+        this.endColor = endColor;
+        this.gammaCorrected = gammaCorrected;
+
+        for (int i = 0; i < STEPS; i++) {
+            float fraction = (float) i / (STEPS - 1);
+            colors[i] = InterpolationUtils.evaluateColor(fraction, startColor, endColor, gammaCorrected);
+        }
+
+        isBuilt = true;
+    }
+
+    /**
+     * Return color from start to end color for specified fraction.
+     *
+     * @param fraction value in range [0 - 1], values out of range are clamped.
+     */
+    public int get(float fraction) {
+        return colors[getIndex(fraction)];
+    }
+
+    /**
+     * Return color from end to start color for specified fraction.
+     *
+     * @param fraction value in range [0 - 1], values out of range are clamped.
+     */
+    public int getReverse(float fraction) {
+        return colors[STEPS - 1 - getIndex(fraction)];
+    }
+
+    private int getIndex(float fraction) {
+        return Math.round(Math.max(0, Math.min(fraction, 1)) * (STEPS - 1));
+    }
+}
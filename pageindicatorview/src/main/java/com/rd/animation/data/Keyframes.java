@@ -0,0 +1,115 @@
+package com.rd.animation.data;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Animation values sampled at fixed steps of progress, so each frame is evaluated
+ * with a lookup and linear interpolation between two neighbour samples.
+ */
+public class Keyframes {
+
+    private final float[] values;
+    private final int valueCount;
+    private final int resolution;
+
+    /**
+     * @param valueCount number of values in each sample.
+     * @param resolution number of steps progress range [0 - 1] is split into.
+     */
+    public Keyframes(int valueCount, int resolution) {
+        this.valueCount = valueCount;
+        this.resolution = resolution;
+        this.values = new float[valueCount * (resolution + 1)];
+    }
+
+    public int getResolution() {
+        return resolution;
+    }
+
+    /**
+     * Store values of sample with specified index.
+     */
+    public void set(int index, @NonNull float[] sample) {
+        System.arraycopy(sample, 0, values, index * valueCount, valueCount);
+    }
+
+    /**
+     * Write values interpolated for specified progress into frame array.
+     *
+     * @param progress float value of progress in range [0 - 1].
+     * @param frame    array to write values to, at least of values count size.
+     */
+    public void sample(float progress, @NonNull float[] frame) {
+        float position = Math.max(0, Math.min(progress, 1)) * resolution;
+        int index = Math.min((int) position, resolution - 1);
+        float fraction = position - index;
+
+        int start = index * valueCount;
+        int end = start + valueCount;
+
+        for (int i = 0; i < valueCount; i++) {
+            float startValue = values[start + i];
+            float endValue = values[end + i];
+            frame[i] = startValue + (endValue - startValue) * fraction;
+        }
+    }
+
+    /**
+     * Parameters which define baked transition. Values of animations with the same key differ only by
+     * offset of their start coordinates, so key holds distance of transition instead of coordinates.
+     */
+    public static class Key {
+
+        private Class<?> type;
+        private Object interpolator;
+        private int distance;
+        private int radius;
+        private int extra;
+
+        public Key() {
+        }
+
+        public Key(@NonNull Key key) {
+            set(key);
+        }
+
+        public void set(@NonNull Key key) {
+            set(key.type, key.interpolator, key.distance, key.radius, key.extra);
+        }
+
+        /**
+         * @param distance signed distance between start and end coordinates, so it defines direction as well.
+         */
+        public void set(@NonNull Class<?> type, @NonNull Object interpolator, int distance, int radius, int extra) {
+            this.type = type;
+            this.interpolator = interpolator;
+            this.distance = distance;
+            this.radius = radius;
+            this.extra = extra;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) o;
+            return type == key.type && interpolator == key.interpolator && distance == key.distance && radius == key.radius && extra == key.extra;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = type != null ? type.hashCode() : 0;
+            result = 31 * result + (interpolator != null ? interpolator.hashCode() : 0);
+            result = 31 * result + distance;
+            result = 31 * result + radius;
+            result = 31 * result + extra;
+            return result;
+        }
+    }
+}
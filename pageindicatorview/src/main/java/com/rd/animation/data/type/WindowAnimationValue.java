@@ -0,0 +1,16 @@
+package com.rd.animation.data.type;
+
+import com.rd.animation.data.Value;
+
+public class WindowAnimationValue implements Value {
+
+    private float offset;
+
+    public float getOffset() {
+        return offset;
+    }
+
+    public void setOffset(float offset) {
+        this.offset = offset;
+    }
+}
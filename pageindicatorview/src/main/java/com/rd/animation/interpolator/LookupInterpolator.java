@@ -0,0 +1,182 @@
+package com.rd.animation.interpolator;
+
+import androidx.annotation.NonNull;
+import com.rd.utils.InterpolationUtils;
+
+/**
+ * Interpolation curve precomputed into a table, so each frame is evaluated with a lookup
+ * and linear interpolation. Instances are immutable and could be shared between indicators.
+ */
+public class LookupInterpolator {
+
+    private static final int TABLE_SIZE = 257;
+
+    private static final float FAST_OUT_SLOW_IN_X1 = 0.4f;
+    private static final float FAST_OUT_SLOW_IN_Y1 = 0f;
+    private static final float FAST_OUT_SLOW_IN_X2 = 0.2f;
+    private static final float FAST_OUT_SLOW_IN_Y2 = 1f;
+
+    private static final float DEFAULT_OVERSHOOT_TENSION = 2f;
+    private static final float DEFAULT_SPRING_DAMPING_RATIO = 0.5f;
+    private static final float SPRING_DECAY = 6f; //Spring settles to e^-6 of its amplitude by the end
+
+    public static final LookupInterpolator ACCELERATE_DECELERATE = create(new Curve() {
+        @Override
+        public float evaluate(float input) {
+            return InterpolationUtils.interpolate(input);
+        }
+    });
+
+    public static final LookupInterpolator LINEAR = create(new Curve() {
+        @Override
+        public float evaluate(float input) {
+            return input;
+        }
+    });
+
+    public static final LookupInterpolator FAST_OUT_SLOW_IN = create(new Curve() {
+        @Override
+        public float evaluate(float input) {
+            return cubicBezier(input, FAST_OUT_SLOW_IN_X1, FAST_OUT_SLOW_IN_Y1, FAST_OUT_SLOW_IN_X2, FAST_OUT_SLOW_IN_Y2);
+        }
+    });
+
+    public static final LookupInterpolator OVERSHOOT = overshoot(DEFAULT_OVERSHOOT_TENSION);
+    public static final LookupInterpolator SPRING = spring(DEFAULT_SPRING_DAMPING_RATIO);
+
+    private final float[] table;
+    private float minValue = Float.MAX_VALUE;
+    private float maxValue = -Float.MAX_VALUE;
+
+    /**
+     * Interface definition of curve to be sampled into {@link LookupInterpolator}.
+     */
+    public interface Curve {
+
+        /**
+         * @param input value in range [0 - 1].
+         * @return interpolated value, which should be 0 for input 0 and 1 for input 1.
+         */
+        float evaluate(float input);
+    }
+
+    private LookupInterpolator(@NonNull Curve curve) {
+        table = new float[TABLE_SIZE];
+
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            float value = curve.evaluate((float) i / (TABLE_SIZE - 1));
+            table[i] = value;
+            minValue = Math.min(minValue, value);
+            maxValue = Math.max(maxValue, value);
+        }
+    }
+
+    /**
+     * Sample custom curve into a new interpolator. Curve is evaluated only while table is built.
+     */
+    @NonNull
+    public static LookupInterpolator create(@NonNull Curve curve) {
+        return new LookupInterpolator(curve);
+    }
+
+    /**
+     * Same curve as {@link android.view.animation.OvershootInterpolator}.
+     *
+     * @param tension amount of overshoot, 0 means no overshoot.
+     */
+    @NonNull
+    public static LookupInterpolator overshoot(final float tension) {
+        return create(new Curve() {
+            @Override
+            public float evaluate(float input) {
+                float t = input - 1;
+                return t * t * ((tension + 1) * t + tension) + 1;
+            }
+        });
+    }
+
+    /**
+     * Approximation of damped spring which settles by the end of animation.
+     *
+     * @param dampingRatio damping ratio in range (0 - 1), lower values bounce more.
+     */
+    @NonNull
+    public static LookupInterpolator spring(float dampingRatio) {
+        final float ratio = Math.max(0.05f, Math.min(dampingRatio, 0.95f));
+        final double frequency = SPRING_DECAY / ratio;
+        final double dampedFrequency = frequency * Math.sqrt(1 - ratio * ratio);
+
+        return create(new Curve() {
+            @Override
+            public float evaluate(float input) {
+                if (input >= 1) {
+                    return 1;
+                }
+
+                double envelope = Math.exp(-SPRING_DECAY * input);
+                double oscillation = Math.cos(dampedFrequency * input) + (SPRING_DECAY / dampedFrequency) * Math.sin(dampedFrequency * input);
+                return (float) (1 - envelope * oscillation);
+            }
+        });
+    }
+
+    /**
+     * @param input value in range [0 - 1].
+     * @return interpolated value.
+     */
+    public float getInterpolation(float input) {
+        if (input <= 0) {
+            return table[0];
+
+        } else if (input >= 1) {
+            return table[TABLE_SIZE - 1];
+        }
+
+        float position = input * (TABLE_SIZE - 1);
+        int index = (int) position;
+        float fraction = position - index;
+
+        float startValue = table[index];
+        float endValue = table[index + 1];
+        return startValue + (endValue - startValue) * fraction;
+    }
+
+    /**
+     * Return lowest value of the curve, below 0 if curve anticipates.
+     */
+    public float getMinValue() {
+        return minValue;
+    }
+
+    /**
+     * Return highest value of the curve, above 1 if curve overshoots.
+     */
+    public float getMaxValue() {
+        return maxValue;
+    }
+
+    private static float cubicBezier(float x, float x1, float y1, float x2, float y2) {
+        //Find curve parameter for x with bisection, curve x is monotonic for x1 and x2 in range [0 - 1]
+        float start = 0;
+        float end = 1;
+        float t = x;
+
+        for (int i = 0; i < 32; i++) {
+            t = (start + end) / 2;
+            float value = bezier(t, x1, x2);
+
+            if (value < x) {
+                start = t;
+            } else {
+                end = t;
+            }
+        }
+
+        return bezier(t, y1, y2);
+    }
+
+    private static float bezier(float t, float p1, float p2) {
+        float inverse = 1 - t;
+        return 3 * inverse * inverse * t * p1 + 3 * inverse * t * t * p2 + t * t * t;
+    }
+}
@@ -1,48 +1,219 @@
 package com.rd.animation.type;
 
-import android.animation.Animator;
-import android.animation.ValueAnimator;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.rd.animation.clock.FrameClock;
+import com.rd.animation.controller.KeyframeCache;
 import com.rd.animation.controller.ValueController;
+import com.rd.animation.data.Keyframes;
+import com.rd.animation.interpolator.LookupInterpolator;
 
-public abstract class BaseAnimation<T extends Animator> {
+public abstract class BaseAnimation implements FrameClock.FrameCallback {
 
     public static final int DEFAULT_ANIMATION_TIME = 350;
-    protected long animationDuration = DEFAULT_ANIMATION_TIME;
+    private static final float NANOS_PER_MILLI = 1000000f;
 
+    protected long animationDuration = DEFAULT_ANIMATION_TIME;
     protected ValueController.UpdateListener listener;
-    protected T animator;
+    protected LookupInterpolator interpolator = LookupInterpolator.ACCELERATE_DECELERATE;
+
+    private long startTime;
+    private float scaledDuration;
+    private boolean isRunning;
+
+    private Keyframes keyframes;
+    private KeyframeCache keyframesCache;
+    private Keyframes.Key keyframesKey;
+    private Keyframes.Key lookupKey;
+    private float[] frameValues;
 
     public BaseAnimation(@Nullable ValueController.UpdateListener listener) {
         this.listener = listener;
-        animator = createAnimator();
     }
 
-    @NonNull
-    public abstract T createAnimator();
-
+    /**
+     * Calculate animation values for specified progress and notify listener about them.
+     *
+     * @param progress float value of progress in range [0 - 1].
+     */
     public abstract BaseAnimation progress(float progress);
 
     public BaseAnimation duration(long duration) {
         animationDuration = duration;
+        return this;
+    }
+
+    public BaseAnimation interpolator(@NonNull LookupInterpolator interpolator) {
+        this.interpolator = interpolator;
+        return this;
+    }
+
+    /**
+     * Evaluate frames of current transition with keyframes baked into cache, instead of calculating them.
+     * Should be called after animation parameters are set. Keyframes are kept while key of transition
+     * is the same, so interactive frames of one transition don't look them up in cache again.
+     *
+     * @param cache cache to take keyframes from or null to calculate frames.
+     */
+    public BaseAnimation keyframes(@Nullable KeyframeCache cache) {
+        if (cache == null || !isBakeable()) {
+            keyframes = null;
+            keyframesCache = null;
+            return this;
+        }
+
+        if (keyframesKey == null) {
+            keyframesKey = new Keyframes.Key();
+            lookupKey = new Keyframes.Key();
+        }
 
-        if (animator instanceof ValueAnimator) {
-            animator.setDuration(animationDuration);
+        getKeyframesKey(lookupKey);
+        if (keyframes == null || cache != keyframesCache || !lookupKey.equals(keyframesKey)) {
+            keyframes = cache.get(this);
+            keyframesCache = cache;
+            keyframesKey.set(lookupKey);
         }
 
         return this;
     }
 
+    /**
+     * Return true if animation values could be baked into {@link Keyframes}.
+     */
+    public boolean isBakeable() {
+        return getValueCount() > 0;
+    }
+
+    /**
+     * Set key of current transition, animations with equal keys have the same keyframes.
+     */
+    public void getKeyframesKey(@NonNull Keyframes.Key key) {
+        key.set(getClass(), interpolator, 0, 0, 0);
+    }
+
+    /**
+     * Sample values of current transition, relative to offsets of {@link #getValueOffset(int)}.
+     *
+     * @param resolution number of steps progress range is split into.
+     */
+    @NonNull
+    public Keyframes bake(int resolution) {
+        int valueCount = getValueCount();
+        Keyframes keyframes = new Keyframes(valueCount, resolution);
+        float[] sample = new float[valueCount];
+
+        for (int i = 0; i <= resolution; i++) {
+            evaluate((float) i / resolution, sample);
+            for (int j = 0; j < valueCount; j++) {
+                sample[j] -= getValueOffset(j);
+            }
+
+            keyframes.set(i, sample);
+        }
+
+        return keyframes;
+    }
+
+    /**
+     * Return number of values evaluated for each frame or 0 if animation is not bakeable.
+     */
+    protected int getValueCount() {
+        return 0;
+    }
+
+    /**
+     * Return offset of value with specified index, e.g. start coordinate of transition. Values are baked
+     * without their offsets, so transitions which differ only by position share keyframes.
+     */
+    protected float getValueOffset(int index) {
+        return 0;
+    }
+
+    /**
+     * Calculate animation values for specified progress, see {@link #getValueCount()}.
+     */
+    protected void evaluate(float progress, @NonNull float[] values) {
+        //Not bakeable by default
+    }
+
+    protected float interpolate(float fraction) {
+        return interpolator.getInterpolation(fraction);
+    }
+
+    /**
+     * Return values for specified progress, taken from keyframes if they are set.
+     */
+    @NonNull
+    protected float[] frameValues(float progress) {
+        if (frameValues == null) {
+            frameValues = new float[getValueCount()];
+        }
+
+        if (keyframes != null) {
+            keyframes.sample(progress, frameValues);
+            for (int i = 0; i < frameValues.length; i++) {
+                frameValues[i] += getValueOffset(i);
+            }
+        } else {
+            evaluate(progress, frameValues);
+        }
+
+        return frameValues;
+    }
+
     public void start() {
-        if (animator != null && !animator.isRunning()) {
-            animator.start();
+        if (isRunning) {
+            return;
+        }
+
+        FrameClock clock = FrameClock.getInstance();
+        float durationScale = clock.getDurationScale();
+        if (durationScale <= 0) {
+            //Animations are disabled in system settings, so only final frame is shown
+            progress(1);
+            return;
         }
+
+        startTime = clock.now();
+        scaledDuration = animationDuration * durationScale;
+        isRunning = true;
+
+        progress(0);
+        clock.add(this);
     }
 
     public void end() {
-        if (animator != null && animator.isStarted()) {
-            animator.end();
+        if (!isRunning) {
+            return;
+        }
+
+        isRunning = false;
+        FrameClock.getInstance().remove(this);
+        progress(1);
+    }
+
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    @Override
+    public boolean doFrame(long frameTimeNanos) {
+        if (!isRunning) {
+            return false;
+        }
+
+        float progress = 1;
+        if (scaledDuration > 0) {
+            progress = (frameTimeNanos - startTime) / (scaledDuration * NANOS_PER_MILLI);
         }
+
+        if (progress >= 1) {
+            isRunning = false;
+            progress(1);
+            return false;
+        }
+
+        progress(Math.max(progress, 0));
+        return true;
     }
 }
@@ -1,56 +1,38 @@
 package com.rd.animation.type;
 
-import android.animation.ArgbEvaluator;
-import android.animation.PropertyValuesHolder;
-import android.animation.ValueAnimator;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import android.view.animation.AccelerateDecelerateInterpolator;
 import com.rd.animation.controller.ValueController;
+import com.rd.animation.data.ColorGradient;
 import com.rd.animation.data.type.ColorAnimationValue;
+import com.rd.utils.InterpolationUtils;
 
-public class ColorAnimation extends BaseAnimation<ValueAnimator> {
+public class ColorAnimation extends BaseAnimation {
 
     public static final String DEFAULT_UNSELECTED_COLOR = "#33ffffff";
     public static final String DEFAULT_SELECTED_COLOR = "#ffffff";
 
-    static final String ANIMATION_COLOR_REVERSE = "ANIMATION_COLOR_REVERSE";
-    static final String ANIMATION_COLOR = "ANIMATION_COLOR";
-
     private ColorAnimationValue value;
 
     int colorStart;
     int colorEnd;
 
+    private boolean gammaCorrected;
+    private ColorGradient gradient;
+
     public ColorAnimation(@Nullable ValueController.UpdateListener listener) {
         super(listener);
         value = new ColorAnimationValue();
     }
 
-    @NonNull
-    @Override
-    public ValueAnimator createAnimator() {
-        ValueAnimator animator = new ValueAnimator();
-        animator.setDuration(BaseAnimation.DEFAULT_ANIMATION_TIME);
-        animator.setInterpolator(new AccelerateDecelerateInterpolator());
-        animator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                onAnimateUpdated(animation);
-            }
-        });
-
-        return animator;
-    }
-
     @Override
     public ColorAnimation progress(float progress) {
-        if (animator != null) {
-            long playTime = (long) (progress * animationDuration);
+        float fraction = interpolate(progress);
 
-            if (animator.getValues() != null && animator.getValues().length > 0) {
-                animator.setCurrentPlayTime(playTime);
-            }
+        updateColors(value, fraction);
+
+        if (listener != null) {
+            listener.onValueUpdated(value);
         }
 
         return this;
@@ -58,64 +40,45 @@ public class ColorAnimation extends BaseAnimation<ValueAnimator> {
 
     @NonNull
     public ColorAnimation with(int colorStart, int colorEnd) {
-        if (animator != null && hasChanges(colorStart, colorEnd)) {
-
-            this.colorStart = colorStart;
-            this.colorEnd = colorEnd;
-
-            PropertyValuesHolder colorHolder = createColorPropertyHolder(false);
-            PropertyValuesHolder reverseColorHolder = createColorPropertyHolder(true);
-
-            animator.setValues(colorHolder, reverseColorHolder);
-        }
-
+        this.colorStart = colorStart;
+        this.colorEnd = colorEnd;
         return this;
     }
 
-    PropertyValuesHolder createColorPropertyHolder(boolean isReverse) {
-        String propertyName;
-        int colorStart;
-        int colorEnd;
-
-        if (isReverse) {
-            propertyName = ANIMATION_COLOR_REVERSE;
-            colorStart = this.colorEnd;
-            colorEnd = this.colorStart;
-
-        } else {
-            propertyName = ANIMATION_COLOR;
-            colorStart = this.colorStart;
-            colorEnd = this.colorEnd;
-        }
-
-        PropertyValuesHolder holder = PropertyValuesHolder.ofInt(propertyName, colorStart, colorEnd);
-        holder.setEvaluator(new ArgbEvaluator());
-
-        return holder;
+    /**
+     * Set whether colors are blended in linear color space.
+     */
+    @NonNull
+    public ColorAnimation gammaCorrected(boolean gammaCorrected) {
+        this.gammaCorrected = gammaCorrected;
+        return this;
     }
 
-    @SuppressWarnings("RedundantIfStatement")
-    private boolean hasChanges(int colorStart, int colorEnd) {
-        if (this.colorStart != colorStart) {
-            return true;
-        }
+    /**
+     * Set whether colors are looked up in precomputed {@link ColorGradient} instead of blended on each frame.
+     * Gradient table is allocated on first use and rebuilt only when colors are changed.
+     */
+    @NonNull
+    public ColorAnimation gradient(boolean isEnabled) {
+        if (isEnabled && gradient == null) {
+            gradient = new ColorGradient();
 
-        if (this.colorEnd != colorEnd) {
-            return true;
+        } else if (!isEnabled) {
+            gradient = null;
         }
 
-        return false;
+        return this;
     }
 
-    private void onAnimateUpdated(@NonNull ValueAnimator animation) {
-        int color = (int) animation.getAnimatedValue(ANIMATION_COLOR);
-        int colorReverse = (int) animation.getAnimatedValue(ANIMATION_COLOR_REVERSE);
-
-        value.setColor(color);
-        value.setColorReverse(colorReverse);
+    protected void updateColors(@NonNull ColorAnimationValue value, float fraction) {
+        if (gradient != null) {
+            gradient.set(colorStart, colorEnd, gammaCorrected);
+            value.setColor(gradient.get(fraction));
+            value.setColorReverse(gradient.getReverse(fraction));
 
-        if (listener != null) {
-            listener.onValueUpdated(value);
+        } else {
+            value.setColor(InterpolationUtils.evaluateColor(fraction, colorStart, colorEnd, gammaCorrected));
+            value.setColorReverse(InterpolationUtils.evaluateColor(fraction, colorEnd, colorStart, gammaCorrected));
         }
     }
 }
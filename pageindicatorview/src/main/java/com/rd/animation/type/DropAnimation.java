@@ -1,14 +1,16 @@
 package com.rd.animation.type;
 
-import android.animation.Animator;
-import android.animation.AnimatorSet;
-import android.animation.ValueAnimator;
 import androidx.annotation.NonNull;
-import android.view.animation.AccelerateDecelerateInterpolator;
 import com.rd.animation.controller.ValueController;
+import com.rd.animation.data.Keyframes;
 import com.rd.animation.data.type.DropAnimationValue;
+import com.rd.utils.InterpolationUtils;
 
-public class DropAnimation extends BaseAnimation<AnimatorSet> {
+public class DropAnimation extends BaseAnimation {
+
+    private static final int VALUE_WIDTH = 0;
+    private static final int VALUE_HEIGHT = 1;
+    private static final int VALUE_RADIUS = 2;
 
     private int widthStart;
     private int widthEnd;
@@ -16,8 +18,6 @@ public class DropAnimation extends BaseAnimation<AnimatorSet> {
     private int heightEnd;
     private int radius;
 
-    private enum AnimationType {Width, Height, Radius}
-
     private DropAnimationValue value;
 
     public DropAnimation(@NonNull ValueController.UpdateListener listener) {
@@ -25,147 +25,77 @@ public class DropAnimation extends BaseAnimation<AnimatorSet> {
         value = new DropAnimationValue();
     }
 
-    @NonNull
-    @Override
-    public AnimatorSet createAnimator() {
-        AnimatorSet animator = new AnimatorSet();
-        animator.setInterpolator(new AccelerateDecelerateInterpolator());
-
-        return animator;
-    }
-
     @Override
     public DropAnimation progress(float progress) {
-        if (animator != null) {
-            long playTimeLeft = (long) (progress * animationDuration);
-            boolean isReverse = false;
-
-            for (Animator anim : animator.getChildAnimations()) {
-                ValueAnimator animator = (ValueAnimator) anim;
-                long animDuration = animator.getDuration();
-                long currPlayTime = playTimeLeft;
-
-                if (isReverse) {
-                    currPlayTime -= animDuration;
-                }
-
-                if (currPlayTime < 0) {
-                    continue;
-
-                } else if (currPlayTime >= animDuration) {
-                    currPlayTime = animDuration;
-                }
-
-                if (animator.getValues() != null && animator.getValues().length > 0) {
-                    animator.setCurrentPlayTime(currPlayTime);
-                }
-
-                if (!isReverse && animDuration >= animationDuration) {
-                    isReverse = true;
-                }
-            }
-        }
-
-        return this;
-    }
-
-    @Override
-    public DropAnimation duration(long duration) {
-        super.duration(duration);
-        return this;
-    }
+        float[] values = frameValues(progress);
+        value.setWidth((int) values[VALUE_WIDTH]);
+        value.setHeight((int) values[VALUE_HEIGHT]);
+        value.setRadius((int) values[VALUE_RADIUS]);
 
-    @SuppressWarnings("UnnecessaryLocalVariable")
-    public DropAnimation with(int widthStart, int widthEnd, int heightStart, int heightEnd, int radius) {
-        if (hasChanges(widthStart, widthEnd, heightStart, heightEnd, radius)) {
-            animator = createAnimator();
-
-            this.widthStart = widthStart;
-            this.widthEnd = widthEnd;
-            this.heightStart = heightStart;
-            this.heightEnd = heightEnd;
-            this.radius = radius;
-
-            int fromRadius = radius;
-            int toRadius = (int) (radius / 1.5);
-            long halfDuration = animationDuration / 2;
-
-            ValueAnimator widthAnimator = createValueAnimation(widthStart, widthEnd, animationDuration, AnimationType.Width);
-            ValueAnimator heightForwardAnimator = createValueAnimation(heightStart, heightEnd, halfDuration, AnimationType.Height);
-            ValueAnimator radiusForwardAnimator = createValueAnimation(fromRadius, toRadius, halfDuration, AnimationType.Radius);
-
-            ValueAnimator heightBackwardAnimator = createValueAnimation(heightEnd, heightStart, halfDuration, AnimationType.Height);
-            ValueAnimator radiusBackwardAnimator = createValueAnimation(toRadius, fromRadius, halfDuration, AnimationType.Radius);
-
-            animator.play(heightForwardAnimator)
-                    .with(radiusForwardAnimator)
-                    .with(widthAnimator)
-                    .before(heightBackwardAnimator)
-                    .before(radiusBackwardAnimator);
+        if (listener != null) {
+            listener.onValueUpdated(value);
         }
 
         return this;
     }
 
-    private ValueAnimator createValueAnimation(int fromValue, int toValue, long duration, final AnimationType type) {
-        ValueAnimator anim = ValueAnimator.ofInt(fromValue, toValue);
-        anim.setInterpolator(new AccelerateDecelerateInterpolator());
-        anim.setDuration(duration);
-        anim.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                onAnimatorUpdate(animation, type);
-            }
-        });
-
-        return anim;
+    @Override
+    public void getKeyframesKey(@NonNull Keyframes.Key key) {
+        key.set(getClass(), interpolator, widthEnd - widthStart, radius, heightEnd - heightStart);
     }
 
-    private void onAnimatorUpdate(@NonNull ValueAnimator animation, @NonNull AnimationType type) {
-        int frameValue = (int) animation.getAnimatedValue();
-
-        switch (type) {
-            case Width:
-                value.setWidth(frameValue);
-                break;
-
-            case Height:
-                value.setHeight(frameValue);
-                break;
+    @Override
+    protected float getValueOffset(int index) {
+        switch (index) {
+            case VALUE_WIDTH:
+                return widthStart;
 
-            case Radius:
-                value.setRadius(frameValue);
-                break;
-        }
+            case VALUE_HEIGHT:
+                return heightStart;
 
-        if (listener != null) {
-            listener.onValueUpdated(value);
+            default:
+                return 0;
         }
     }
 
-    @SuppressWarnings("RedundantIfStatement")
-    private boolean hasChanges(int widthStart, int widthEnd, int heightStart, int heightEnd, int radius) {
-        if (this.widthStart != widthStart) {
-            return true;
-        }
-
-        if (this.widthEnd != widthEnd) {
-            return true;
-        }
+    @Override
+    protected int getValueCount() {
+        return 3;
+    }
 
-        if (this.heightStart != heightStart) {
-            return true;
+    @Override
+    protected void evaluate(float progress, @NonNull float[] values) {
+        int fromRadius = radius;
+        int toRadius = (int) (radius / 1.5);
+
+        float widthFraction = interpolate(progress);
+        values[VALUE_WIDTH] = InterpolationUtils.evaluate(widthFraction, widthStart, widthEnd);
+
+        if (progress < 0.5f) {
+            float fraction = interpolate(InterpolationUtils.fraction(progress, 0, 0.5f));
+            values[VALUE_HEIGHT] = InterpolationUtils.evaluate(fraction, heightStart, heightEnd);
+            values[VALUE_RADIUS] = InterpolationUtils.evaluate(fraction, fromRadius, toRadius);
+
+        } else {
+            float fraction = interpolate(InterpolationUtils.fraction(progress, 0.5f, 0.5f));
+            values[VALUE_HEIGHT] = InterpolationUtils.evaluate(fraction, heightEnd, heightStart);
+            values[VALUE_RADIUS] = InterpolationUtils.evaluate(fraction, toRadius, fromRadius);
         }
+    }
 
-        if (this.heightEnd != heightEnd) {
-            return true;
-        }
+    @Override
+    public DropAnimation duration(long duration) {
+        super.duration(duration);
+        return this;
+    }
 
-        if (this.radius != radius) {
-            return true;
-        }
+    public DropAnimation with(int widthStart, int widthEnd, int heightStart, int heightEnd, int radius) {
+        this.widthStart = widthStart;
+        this.widthEnd = widthEnd;
+        this.heightStart = heightStart;
+        this.heightEnd = heightEnd;
+        this.radius = radius;
 
-        return false;
+        return this;
     }
-
 }
@@ -1,7 +1,5 @@
 package com.rd.animation.type;
 
-import android.animation.IntEvaluator;
-import android.animation.PropertyValuesHolder;
 import androidx.annotation.NonNull;
 import com.rd.animation.controller.ValueController;
 
@@ -11,27 +9,13 @@ public class ScaleDownAnimation extends ScaleAnimation {
 		super(listener);
 	}
 
-	@NonNull
 	@Override
-	protected PropertyValuesHolder createScalePropertyHolder(boolean isReverse) {
-		String propertyName;
-		int startRadiusValue;
-		int endRadiusValue;
-
-		if (isReverse) {
-			propertyName = ANIMATION_SCALE_REVERSE;
-			startRadiusValue = (int) (radius * scaleFactor);
-			endRadiusValue = radius;
-		} else {
-			propertyName = ANIMATION_SCALE;
-			startRadiusValue = radius;
-			endRadiusValue = (int) (radius * scaleFactor);
-		}
-
-		PropertyValuesHolder holder = PropertyValuesHolder.ofInt(propertyName, startRadiusValue, endRadiusValue);
-		holder.setEvaluator(new IntEvaluator());
+	protected int getRadiusStart(boolean isReverse) {
+		return isReverse ? (int) (radius * scaleFactor) : radius;
+	}
 
-		return holder;
+	@Override
+	protected int getRadiusEnd(boolean isReverse) {
+		return isReverse ? radius : (int) (radius * scaleFactor);
 	}
 }
-
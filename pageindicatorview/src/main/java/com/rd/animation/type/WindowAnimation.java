@@ -0,0 +1,46 @@
+package com.rd.animation.type;
+
+import androidx.annotation.NonNull;
+import com.rd.animation.controller.ValueController;
+import com.rd.animation.data.type.WindowAnimationValue;
+
+/**
+ * Scrolls window of visible indicators, see {@link com.rd.draw.data.Indicator#getMaxVisibleCount()}.
+ */
+public class WindowAnimation extends BaseAnimation {
+
+    private float offsetStart;
+    private float offsetEnd;
+
+    private WindowAnimationValue value;
+
+    public WindowAnimation(@NonNull ValueController.UpdateListener listener) {
+        super(listener);
+        value = new WindowAnimationValue();
+    }
+
+    @Override
+    public WindowAnimation progress(float progress) {
+        float fraction = interpolate(progress);
+        value.setOffset(offsetStart + (offsetEnd - offsetStart) * fraction);
+
+        if (listener != null) {
+            listener.onValueUpdated(value);
+        }
+
+        return this;
+    }
+
+    @Override
+    public WindowAnimation duration(long duration) {
+        super.duration(duration);
+        return this;
+    }
+
+    @NonNull
+    public WindowAnimation with(float offsetStart, float offsetEnd) {
+        this.offsetStart = offsetStart;
+        this.offsetEnd = offsetEnd;
+        return this;
+    }
+}
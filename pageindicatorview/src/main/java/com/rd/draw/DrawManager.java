@@ -2,14 +2,15 @@ package com.rd.draw;
 
 import android.content.Context;
 import android.graphics.Canvas;
+import android.graphics.Rect;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import android.util.AttributeSet;
-import android.util.Pair;
 import android.view.MotionEvent;
 import com.rd.animation.data.Value;
 import com.rd.draw.controller.AttributeController;
 import com.rd.draw.controller.DrawController;
+import com.rd.draw.controller.LayerController;
 import com.rd.draw.controller.MeasureController;
 import com.rd.draw.data.Indicator;
 
@@ -48,12 +49,26 @@ public class DrawManager {
 		drawController.updateValue(value);
 	}
 
+	public boolean updateDirtyBounds() {
+		return drawController.updateDirtyBounds();
+	}
+
+	@NonNull
+	public Rect getDirtyBounds() {
+		return drawController.getDirtyBounds();
+	}
+
+	@NonNull
+	public LayerController layer() {
+		return drawController.layer();
+	}
+
 	public void draw(@NonNull Canvas canvas) {
 		drawController.draw(canvas);
 	}
 
-	public Pair<Integer, Integer> measureViewSize(int widthMeasureSpec, int heightMeasureSpec) {
-		return measureController.measureViewSize(indicator, widthMeasureSpec, heightMeasureSpec);
+	public void measureViewSize(int widthMeasureSpec, int heightMeasureSpec) {
+		measureController.measureViewSize(indicator, widthMeasureSpec, heightMeasureSpec);
 	}
 
 	public void initAttributes(@NonNull Context context, @Nullable AttributeSet attrs) {
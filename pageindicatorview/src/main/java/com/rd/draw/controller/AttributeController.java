@@ -1,11 +1,15 @@
 package com.rd.draw.controller;
 
 import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
 import android.content.res.TypedArray;
 import android.graphics.Color;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.StyleRes;
 import android.util.AttributeSet;
+import android.util.SparseArray;
 import android.view.View;
 
 import com.rd.animation.type.AnimationType;
@@ -14,31 +18,102 @@ import com.rd.animation.type.ColorAnimation;
 import com.rd.animation.type.FillAnimation;
 import com.rd.animation.type.ScaleAnimation;
 import com.rd.draw.data.Indicator;
+import com.rd.draw.data.IndicatorStyle;
 import com.rd.draw.data.Orientation;
 import com.rd.draw.data.RtlMode;
 import com.rd.pageindicatorview.R;
 import com.rd.utils.DensityUtils;
 
+import java.lang.ref.WeakReference;
+
 public class AttributeController {
 
     private Indicator indicator;
 
-    private static final int DEFAULT_IDLE_DURATION = 3000;
+    private static final String ATTRIBUTE_PREFIX = "piv_";
+    private static final int STYLE_NONE = 0;
+
+    //Styles are resolved against theme and configuration, so cache is valid only while both stay the same
+    private static final SparseArray<IndicatorStyle> STYLE_CACHE = new SparseArray<>();
+    private static WeakReference<Resources.Theme> cachedTheme;
+    private static Configuration cachedConfiguration;
 
     public AttributeController(@NonNull Indicator indicator) {
         this.indicator = indicator;
     }
 
+    /**
+     * Apply attributes to indicator. Attributes which come only from a style resource, or defaults if
+     * there are no attributes at all, are parsed once and shared, see {@link #obtainStyle(Context, int)}.
+     */
     public void init(@NonNull Context context, @Nullable AttributeSet attrs) {
-        TypedArray typedArray = context.obtainStyledAttributes(attrs, R.styleable.PageIndicatorView, 0, 0);
-        initCountAttribute(typedArray);
-        initColorAttribute(typedArray);
-        initAnimationAttribute(typedArray);
-        initSizeAttribute(typedArray);
-        typedArray.recycle();
+        IndicatorStyle style;
+        if (attrs == null) {
+            style = obtainStyle(context, STYLE_NONE);
+
+        } else if (attrs.getStyleAttribute() != STYLE_NONE && !hasIndicatorAttributes(attrs)) {
+            style = obtainStyle(context, attrs.getStyleAttribute());
+
+        } else {
+            TypedArray typedArray = context.obtainStyledAttributes(attrs, R.styleable.PageIndicatorView, 0, 0);
+            style = parseStyle(typedArray);
+            typedArray.recycle();
+        }
+
+        indicator.setStyle(style);
+    }
+
+    /**
+     * Return style parsed from style resource, which is parsed only once for current theme and configuration.
+     *
+     * @param styleRes style resource or 0 for default style.
+     */
+    @NonNull
+    public static synchronized IndicatorStyle obtainStyle(@NonNull Context context, @StyleRes int styleRes) {
+        Resources.Theme theme = context.getTheme();
+        Configuration configuration = context.getResources().getConfiguration();
+
+        boolean isThemeChanged = cachedTheme == null || cachedTheme.get() != theme;
+        if (isThemeChanged || !configuration.equals(cachedConfiguration)) {
+            STYLE_CACHE.clear();
+            cachedTheme = new WeakReference<>(theme);
+            cachedConfiguration = new Configuration(configuration);
+        }
+
+        IndicatorStyle style = STYLE_CACHE.get(styleRes);
+        if (style == null) {
+            TypedArray typedArray = context.obtainStyledAttributes(styleRes, R.styleable.PageIndicatorView);
+            style = parseStyle(typedArray);
+            typedArray.recycle();
+
+            STYLE_CACHE.put(styleRes, style);
+        }
+
+        return style;
+    }
+
+    private static boolean hasIndicatorAttributes(@NonNull AttributeSet attrs) {
+        for (int i = 0; i < attrs.getAttributeCount(); i++) {
+            String name = attrs.getAttributeName(i);
+            if (name != null && name.startsWith(ATTRIBUTE_PREFIX)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @NonNull
+    private static IndicatorStyle parseStyle(@NonNull TypedArray typedArray) {
+        IndicatorStyle.Builder builder = new IndicatorStyle.Builder(Resources.getSystem().getDisplayMetrics().density);
+        initCountAttribute(typedArray, builder);
+        initColorAttribute(typedArray, builder);
+        AnimationType animationType = initAnimationAttribute(typedArray, builder);
+        initSizeAttribute(typedArray, builder, animationType);
+        return builder.build();
     }
 
-    private void initCountAttribute(@NonNull TypedArray typedArray) {
+    private static void initCountAttribute(@NonNull TypedArray typedArray, @NonNull IndicatorStyle.Builder builder) {
         int viewPagerId = typedArray.getResourceId(R.styleable.PageIndicatorView_piv_viewPager, View.NO_ID);
         boolean autoVisibility = typedArray.getBoolean(R.styleable.PageIndicatorView_piv_autoVisibility, true);
         boolean dynamicCount = typedArray.getBoolean(R.styleable.PageIndicatorView_piv_dynamicCount, false);
@@ -48,6 +123,11 @@ public class AttributeController {
             count = Indicator.DEFAULT_COUNT;
         }
 
+        int maxVisibleCount = typedArray.getInt(R.styleable.PageIndicatorView_piv_maxVisibleCount, Indicator.COUNT_NONE);
+        if (maxVisibleCount <= 0) {
+            maxVisibleCount = Indicator.COUNT_NONE;
+        }
+
         int position = typedArray.getInt(R.styleable.PageIndicatorView_piv_select, 0);
         if (position < 0) {
             position = 0;
@@ -55,25 +135,24 @@ public class AttributeController {
             position = count - 1;
         }
 
-        indicator.setViewPagerId(viewPagerId);
-        indicator.setAutoVisibility(autoVisibility);
-        indicator.setDynamicCount(dynamicCount);
-        indicator.setCount(count);
-
-        indicator.setSelectedPosition(position);
-        indicator.setSelectingPosition(position);
-        indicator.setLastSelectedPosition(position);
+        builder.viewPagerId(viewPagerId)
+                .autoVisibility(autoVisibility)
+                .dynamicCount(dynamicCount)
+                .count(count)
+                .maxVisibleCount(maxVisibleCount)
+                .selection(position);
     }
 
-    private void initColorAttribute(@NonNull TypedArray typedArray) {
+    private static void initColorAttribute(@NonNull TypedArray typedArray, @NonNull IndicatorStyle.Builder builder) {
         int unselectedColor = typedArray.getColor(R.styleable.PageIndicatorView_piv_unselectedColor, Color.parseColor(ColorAnimation.DEFAULT_UNSELECTED_COLOR));
         int selectedColor = typedArray.getColor(R.styleable.PageIndicatorView_piv_selectedColor, Color.parseColor(ColorAnimation.DEFAULT_SELECTED_COLOR));
 
-        indicator.setUnselectedColor(unselectedColor);
-        indicator.setSelectedColor(selectedColor);
+        builder.unselectedColor(unselectedColor)
+                .selectedColor(selectedColor);
     }
 
-    private void initAnimationAttribute(@NonNull TypedArray typedArray) {
+    @NonNull
+    private static AnimationType initAnimationAttribute(@NonNull TypedArray typedArray, @NonNull IndicatorStyle.Builder builder) {
         boolean interactiveAnimation = typedArray.getBoolean(R.styleable.PageIndicatorView_piv_interactiveAnimation, false);
         long animationDuration = (long) typedArray.getInt(R.styleable.PageIndicatorView_piv_animationDuration, BaseAnimation.DEFAULT_ANIMATION_TIME);
         if (animationDuration < 0) {
@@ -87,17 +166,23 @@ public class AttributeController {
         RtlMode rtlMode = getRtlMode(rtlIndex);
 
         boolean fadeOnIdle = typedArray.getBoolean(R.styleable.PageIndicatorView_piv_fadeOnIdle, false);
-        long idleDuration = (long) typedArray.getInt(R.styleable.PageIndicatorView_piv_idleDuration, DEFAULT_IDLE_DURATION);
-
-        indicator.setAnimationDuration(animationDuration);
-        indicator.setInteractiveAnimation(interactiveAnimation);
-        indicator.setAnimationType(animationType);
-        indicator.setRtlMode(rtlMode);
-        indicator.setFadeOnIdle(fadeOnIdle);
-        indicator.setIdleDuration(idleDuration);
+        long idleDuration = (long) typedArray.getInt(R.styleable.PageIndicatorView_piv_idleDuration, IndicatorStyle.DEFAULT_IDLE_DURATION);
+
+        builder.animationDuration(animationDuration)
+                .interactiveAnimation(interactiveAnimation)
+                .animationType(animationType)
+                .rtlMode(rtlMode)
+                .fadeOnIdle(fadeOnIdle)
+                .idleDuration(idleDuration);
+
+        return animationType;
     }
 
-    private void initSizeAttribute(@NonNull TypedArray typedArray) {
+    private static void initSizeAttribute(
+            @NonNull TypedArray typedArray,
+            @NonNull IndicatorStyle.Builder builder,
+            @NonNull AnimationType animationType) {
+
         int orientationIndex = typedArray.getInt(R.styleable.PageIndicatorView_piv_orientation, Orientation.HORIZONTAL.ordinal());
         Orientation orientation;
 
@@ -130,18 +215,18 @@ public class AttributeController {
             stroke = radius;
         }
 
-        if (indicator.getAnimationType() != AnimationType.FILL) {
+        if (animationType != AnimationType.FILL) {
             stroke = 0;
         }
 
-        indicator.setRadius(radius);
-        indicator.setOrientation(orientation);
-        indicator.setPadding(padding);
-        indicator.setScaleFactor(scaleFactor);
-        indicator.setStroke(stroke);
+        builder.radius(radius)
+                .orientation(orientation)
+                .padding(padding)
+                .scaleFactor(scaleFactor)
+                .stroke(stroke);
     }
 
-    private AnimationType getAnimationType(int index) {
+    private static AnimationType getAnimationType(int index) {
         switch (index) {
             case 0:
                 return AnimationType.NONE;
@@ -168,7 +253,7 @@ public class AttributeController {
         return AnimationType.NONE;
     }
 
-    private RtlMode getRtlMode(int index) {
+    private static RtlMode getRtlMode(int index) {
         switch (index) {
             case 0:
                 return RtlMode.On;
@@ -1,12 +1,15 @@
 package com.rd.draw.controller;
 
 import android.graphics.Canvas;
+import android.graphics.Rect;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import android.view.MotionEvent;
 import com.rd.animation.data.Value;
+import com.rd.animation.interpolator.LookupInterpolator;
 import com.rd.animation.type.AnimationType;
 import com.rd.draw.data.Indicator;
+import com.rd.draw.data.Orientation;
 import com.rd.draw.drawer.Drawer;
 import com.rd.utils.CoordinatesUtils;
 
@@ -14,9 +17,14 @@ public class DrawController {
 
 	private Value value;
 	private Drawer drawer;
+	private LayerController layerController;
 	private Indicator indicator;
 	private ClickListener listener;
 
+	private Rect dirtyBounds = new Rect();
+	private Rect animationBounds = new Rect();
+	private Rect clipBounds = new Rect();
+
 	public interface ClickListener {
 
 		void onIndicatorClicked(int position);
@@ -25,6 +33,7 @@ public class DrawController {
 	public DrawController(@NonNull Indicator indicator) {
 		this.indicator = indicator;
 		this.drawer = new Drawer(indicator);
+		this.layerController = new LayerController(indicator, drawer);
 	}
 
 	public void updateValue(@Nullable Value value) {
@@ -57,14 +66,229 @@ public class DrawController {
 		}
 	}
 
+	/**
+	 * Extend dirty area with bounds of currently animating indicators.
+	 *
+	 * @return true if dirty area has grown and should be invalidated again.
+	 */
+	public boolean updateDirtyBounds() {
+		getAnimationBounds(animationBounds);
+		if (dirtyBounds.contains(animationBounds)) {
+			return false;
+		}
+
+		dirtyBounds.union(animationBounds);
+		return true;
+	}
+
+	/**
+	 * Return area which has to be redrawn on next frame: indicators animating now
+	 * and indicators which were animating in last drawn frame.
+	 */
+	@NonNull
+	public Rect getDirtyBounds() {
+		return dirtyBounds;
+	}
+
+	@NonNull
+	public LayerController layer() {
+		return layerController;
+	}
+
 	public void draw(@NonNull Canvas canvas) {
+        int windowShift = CoordinatesUtils.getWindowShift(indicator);
+        if (windowShift != 0) {
+            //Indicators are drawn in coordinates of full indicator, so scroll canvas to visible window
+            canvas.save();
+            if (indicator.getOrientation() == Orientation.HORIZONTAL) {
+                canvas.translate(-windowShift, 0);
+            } else {
+                canvas.translate(0, -windowShift);
+            }
+        }
+
+        if (layerController.prepare()) {
+            drawWithLayer(canvas);
+        } else {
+            drawAll(canvas);
+        }
+
+        if (windowShift != 0) {
+            canvas.restore();
+        }
+
+        getAnimationBounds(dirtyBounds);
+    }
+
+    private void drawAll(@NonNull Canvas canvas) {
+        if (!canvas.getClipBounds(clipBounds)) {
+            clipBounds.setEmpty();
+        }
+
+        boolean interactiveAnimation = indicator.isInteractiveAnimation();
+        int firstPosition = interactiveAnimation ? indicator.getSelectedPosition() : indicator.getLastSelectedPosition();
+        int secondPosition = interactiveAnimation ? indicator.getSelectingPosition() : indicator.getSelectedPosition();
+
+        int startPosition = Math.min(firstPosition, secondPosition);
+        int endPosition = Math.max(firstPosition, secondPosition);
+
+        //Keep original drawing order: static indicators before, between and after animated ones
+        int staticStart = drawStaticWithIndicator(canvas, startPosition, CoordinatesUtils.getFirstVisiblePosition(indicator));
+        if (endPosition != startPosition) {
+            staticStart = drawStaticWithIndicator(canvas, endPosition, staticStart);
+        }
+
+        drawStatic(canvas, staticStart, CoordinatesUtils.getLastVisiblePosition(indicator));
+    }
+
+    private int drawStaticWithIndicator(@NonNull Canvas canvas, int position, int staticStart) {
+        if (position < 0 || position >= indicator.getCount()) {
+            return staticStart;
+        }
+
+        drawStatic(canvas, staticStart, position - 1);
+
+        int coordinateX = CoordinatesUtils.getXCoordinate(indicator, position);
+        int coordinateY = CoordinatesUtils.getYCoordinate(indicator, position);
+        drawIndicator(canvas, position, coordinateX, coordinateY);
+
+        return position + 1;
+    }
+
+    private void drawStatic(@NonNull Canvas canvas, int fromPosition, int toPosition) {
+        fromPosition = Math.max(fromPosition, CoordinatesUtils.getFirstVisiblePosition(indicator));
+        toPosition = Math.min(toPosition, CoordinatesUtils.getLastVisiblePosition(indicator));
+
+        int step = CoordinatesUtils.getStep(indicator);
+        if (step > 0 && fromPosition <= toPosition) {
+            //Skip indicators outside of clip bounds
+            boolean isHorizontal = indicator.getOrientation() == Orientation.HORIZONTAL;
+            int clipStart = isHorizontal ? clipBounds.left : clipBounds.top;
+            int clipEnd = isHorizontal ? clipBounds.right : clipBounds.bottom;
+
+            int extent = getIndicatorExtent();
+            int firstCoordinate = getViewCoordinate(0);
+
+            int firstVisible = (int) Math.ceil((float) (clipStart - extent - firstCoordinate) / step);
+            int lastVisible = (int) Math.floor((float) (clipEnd + extent - firstCoordinate) / step);
+
+            fromPosition = Math.max(fromPosition, firstVisible);
+            toPosition = Math.min(toPosition, lastVisible);
+        }
+
+        //Shrunk indicators at window edges can't be batched with the rest
+        while (fromPosition <= toPosition && CoordinatesUtils.getRadiusScale(indicator, fromPosition) < 1) {
+            drawScaled(canvas, fromPosition);
+            fromPosition++;
+        }
+
+        while (toPosition >= fromPosition && CoordinatesUtils.getRadiusScale(indicator, toPosition) < 1) {
+            drawScaled(canvas, toPosition);
+            toPosition--;
+        }
+
+        drawer.drawUnselected(canvas, fromPosition, toPosition);
+    }
+
+    private void drawScaled(@NonNull Canvas canvas, int position) {
+        int coordinateX = CoordinatesUtils.getXCoordinate(indicator, position);
+        int coordinateY = CoordinatesUtils.getYCoordinate(indicator, position);
+
+        drawer.setup(position, coordinateX, coordinateY);
+        drawer.drawUnselected(canvas, CoordinatesUtils.getRadiusScale(indicator, position));
+    }
+
+    private void drawWithLayer(@NonNull Canvas canvas) {
+        boolean interactiveAnimation = indicator.isInteractiveAnimation();
+        int firstPosition = interactiveAnimation ? indicator.getSelectedPosition() : indicator.getLastSelectedPosition();
+        int secondPosition = interactiveAnimation ? indicator.getSelectingPosition() : indicator.getSelectedPosition();
+
+        int startPosition = Math.min(firstPosition, secondPosition);
+        int endPosition = Math.max(firstPosition, secondPosition);
+
+        //Keep original drawing order: static indicators before, between and after animated ones
+        int layerStart = drawLayerWithIndicator(canvas, startPosition, 0);
+        if (endPosition != startPosition) {
+            layerStart = drawLayerWithIndicator(canvas, endPosition, layerStart);
+        }
+
+        int length = indicator.getOrientation() == Orientation.HORIZONTAL ? indicator.getWidth() : indicator.getHeight();
+        layerController.drawSegment(canvas, layerStart, length);
+    }
+
+    private int drawLayerWithIndicator(@NonNull Canvas canvas, int position, int layerStart) {
         int count = indicator.getCount();
+        if (position < 0 || position >= count) {
+            return layerStart;
+        }
+
+        int coordinate = getViewCoordinate(position);
+        int cellStart = position > 0 ? (getViewCoordinate(position - 1) + coordinate) / 2 : 0;
+        layerController.drawSegment(canvas, layerStart, cellStart);
+
+        int coordinateX = CoordinatesUtils.getXCoordinate(indicator, position);
+        int coordinateY = CoordinatesUtils.getYCoordinate(indicator, position);
+        drawIndicator(canvas, position, coordinateX, coordinateY);
+
+        if (position < count - 1) {
+            return (coordinate + getViewCoordinate(position + 1)) / 2;
+        } else {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private int getViewCoordinate(int position) {
+        if (indicator.getOrientation() == Orientation.HORIZONTAL) {
+            return CoordinatesUtils.getXCoordinate(indicator, position);
+        } else {
+            return CoordinatesUtils.getYCoordinate(indicator, position);
+        }
+    }
+
+    private void getAnimationBounds(@NonNull Rect rect) {
+        boolean interactiveAnimation = indicator.isInteractiveAnimation();
+        int firstPosition = interactiveAnimation ? indicator.getSelectedPosition() : indicator.getLastSelectedPosition();
+        int secondPosition = interactiveAnimation ? indicator.getSelectingPosition() : indicator.getSelectedPosition();
+
+        int lastPosition = indicator.getCount() - 1;
+        firstPosition = Math.max(0, Math.min(firstPosition, lastPosition));
+        secondPosition = Math.max(0, Math.min(secondPosition, lastPosition));
 
-        for (int position = 0; position < count; position++) {
-            int coordinateX = CoordinatesUtils.getXCoordinate(indicator, position);
-            int coordinateY = CoordinatesUtils.getYCoordinate(indicator, position);
-            drawIndicator(canvas, position, coordinateX, coordinateY);
+        if (lastPosition < 0) {
+            rect.setEmpty();
+            return;
         }
+
+        if (CoordinatesUtils.isWindowed(indicator)) {
+            //Every visible indicator moves along with the window
+            rect.set(0, 0, indicator.getWidth(), indicator.getHeight());
+            return;
+        }
+
+        int firstCoordinate = CoordinatesUtils.getCoordinate(indicator, firstPosition);
+        int secondCoordinate = CoordinatesUtils.getCoordinate(indicator, secondPosition);
+        int extent = getIndicatorExtent();
+
+        //Overshooting interpolators move values beyond span between indicators
+        LookupInterpolator interpolator = indicator.getInterpolator();
+        float overshoot = Math.max(0, Math.max(interpolator.getMaxValue() - 1, -interpolator.getMinValue()));
+        extent += (int) Math.ceil(Math.abs(secondCoordinate - firstCoordinate) * overshoot);
+
+        int start = Math.min(firstCoordinate, secondCoordinate) - extent;
+        int end = Math.max(firstCoordinate, secondCoordinate) + extent;
+
+        if (indicator.getOrientation() == Orientation.HORIZONTAL) {
+            int offset = indicator.getPaddingLeft();
+            rect.set(start + offset, 0, end + offset, indicator.getHeight());
+        } else {
+            int offset = indicator.getPaddingTop();
+            rect.set(0, start + offset, indicator.getWidth(), end + offset);
+        }
+    }
+
+    private int getIndicatorExtent() {
+        //Worm and drop values never leave span between indicators, stroke and anti-aliasing might
+        return indicator.getRadius() + indicator.getStroke() + 1;
     }
 
     private void drawIndicator(
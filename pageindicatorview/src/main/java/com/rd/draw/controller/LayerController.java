@@ -0,0 +1,177 @@
+package com.rd.draw.controller;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Rect;
+import androidx.annotation.NonNull;
+import com.rd.animation.type.AnimationType;
+import com.rd.draw.data.Indicator;
+import com.rd.draw.data.Orientation;
+import com.rd.draw.drawer.Drawer;
+import com.rd.utils.CoordinatesUtils;
+
+/**
+ * Keeps all indicators drawn in unselected state in a bitmap, so each frame copies
+ * that layer instead of drawing every static indicator again. Layer is rebuilt only
+ * when geometry or colors of indicators are changed.
+ */
+public class LayerController {
+
+    /**
+     * Max size of layer side in pixels, lowest max texture size of hardware accelerated canvas.
+     */
+    public static final int MAX_LAYER_SIDE = 2048;
+
+    /**
+     * Max number of layer pixels, so layer of a single indicator takes at most 256 KB.
+     */
+    public static final int MAX_LAYER_PIXELS = 64 * 1024;
+
+    private Indicator indicator;
+    private Drawer drawer;
+
+    private Bitmap bitmap;
+    private Canvas bitmapCanvas;
+    private Rect segment = new Rect();
+
+    private int hitCount;
+    private int rebuildCount;
+
+    private int width;
+    private int height;
+    private int count;
+    private int radius;
+    private int stroke;
+    private int padding;
+    private int paddingLeft;
+    private int paddingTop;
+    private int unselectedColor;
+    private float scaleFactor;
+    private Orientation orientation;
+    private AnimationType animationType;
+
+    public LayerController(@NonNull Indicator indicator, @NonNull Drawer drawer) {
+        this.indicator = indicator;
+        this.drawer = drawer;
+    }
+
+    /**
+     * Make sure layer is up to date with indicator state.
+     *
+     * @return true if layer could be used to draw current frame, false otherwise.
+     */
+    public boolean prepare() {
+        boolean isDrawable = indicator.getWidth() > 0 && indicator.getHeight() > 0 && indicator.getCount() > 0;
+        //Windowed indicators are scrolled and resized on every window move, so there is nothing static to cache.
+        //Layers over the size limit are not cached either, indicators are drawn directly instead
+        if (!indicator.isLayerCacheEnabled() || !isDrawable || !isLayerSizeAllowed() || CoordinatesUtils.isWindowed(indicator)) {
+            release();
+            return false;
+        }
+
+        if (bitmap != null && !hasChanges()) {
+            hitCount++;
+            return true;
+        }
+
+        rebuild();
+        return true;
+    }
+
+    /**
+     * Copy part of the layer between start and end coordinates along indicator orientation.
+     */
+    public void drawSegment(@NonNull Canvas canvas, int start, int end) {
+        if (bitmap == null || end <= start) {
+            return;
+        }
+
+        if (orientation == Orientation.HORIZONTAL) {
+            segment.set(start, 0, end, height);
+        } else {
+            segment.set(0, start, width, end);
+        }
+
+        canvas.drawBitmap(bitmap, segment, segment, null);
+    }
+
+    /**
+     * Drop reference to layer bitmap. Bitmap is not recycled as last recorded frame could still use it.
+     */
+    public void release() {
+        bitmap = null;
+        bitmapCanvas = null;
+    }
+
+    /**
+     * Return number of frames drawn with already built layer.
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Return number of times layer was built.
+     */
+    public int getRebuildCount() {
+        return rebuildCount;
+    }
+
+    private boolean isLayerSizeAllowed() {
+        int width = indicator.getWidth();
+        int height = indicator.getHeight();
+        return width <= MAX_LAYER_SIDE && height <= MAX_LAYER_SIDE && (long) width * height <= MAX_LAYER_PIXELS;
+    }
+
+    private void rebuild() {
+        width = indicator.getWidth();
+        height = indicator.getHeight();
+        count = indicator.getCount();
+        radius = indicator.getRadius();
+        stroke = indicator.getStroke();
+        padding = indicator.getPadding();
+        paddingLeft = indicator.getPaddingLeft();
+        paddingTop = indicator.getPaddingTop();
+        unselectedColor = indicator.getUnselectedColor();
+        scaleFactor = indicator.getScaleFactor();
+        orientation = indicator.getOrientation();
+        animationType = indicator.getAnimationType();
+
+        if (bitmap == null || bitmap.getWidth() != width || bitmap.getHeight() != height) {
+            release();
+            bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            bitmapCanvas = new Canvas(bitmap);
+        } else {
+            bitmap.eraseColor(Color.TRANSPARENT);
+        }
+
+        drawer.drawUnselected(bitmapCanvas, 0, count - 1);
+        rebuildCount++;
+    }
+
+    @SuppressWarnings("RedundantIfStatement")
+    private boolean hasChanges() {
+        if (width != indicator.getWidth() || height != indicator.getHeight()) {
+            return true;
+        }
+
+        if (count != indicator.getCount() || radius != indicator.getRadius() || stroke != indicator.getStroke()) {
+            return true;
+        }
+
+        if (padding != indicator.getPadding() || paddingLeft != indicator.getPaddingLeft() || paddingTop != indicator.getPaddingTop()) {
+            return true;
+        }
+
+        if (unselectedColor != indicator.getUnselectedColor() || scaleFactor != indicator.getScaleFactor()) {
+            return true;
+        }
+
+        if (orientation != indicator.getOrientation() || animationType != indicator.getAnimationType()) {
+            return true;
+        }
+
+        return false;
+    }
+}
@@ -1,22 +1,25 @@
 package com.rd.draw.controller;
 
 import androidx.annotation.NonNull;
-import android.util.Pair;
 import android.view.View;
 import com.rd.animation.type.AnimationType;
 import com.rd.draw.data.Indicator;
 import com.rd.draw.data.Orientation;
+import com.rd.utils.CoordinatesUtils;
 
 public class MeasureController {
 
-    public Pair<Integer, Integer> measureViewSize(@NonNull Indicator indicator, int widthMeasureSpec, int heightMeasureSpec) {
+    /**
+     * Measure view size and store it in {@link Indicator#getWidth()} and {@link Indicator#getHeight()}.
+     */
+    public void measureViewSize(@NonNull Indicator indicator, int widthMeasureSpec, int heightMeasureSpec) {
         int widthMode = View.MeasureSpec.getMode(widthMeasureSpec);
         int widthSize = View.MeasureSpec.getSize(widthMeasureSpec);
 
         int heightMode = View.MeasureSpec.getMode(heightMeasureSpec);
         int heightSize = View.MeasureSpec.getSize(heightMeasureSpec);
 
-        int count = indicator.getCount();
+        int count = CoordinatesUtils.getVisibleCount(indicator);
         int radius = indicator.getRadius();
         int stroke = indicator.getStroke();
 
@@ -98,7 +101,5 @@ public class MeasureController {
 
         indicator.setWidth(width);
         indicator.setHeight(height);
-
-        return new Pair<>(width, height);
     }
 }
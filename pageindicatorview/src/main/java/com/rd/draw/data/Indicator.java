@@ -1,55 +1,59 @@
 package com.rd.draw.data;
 
 import androidx.annotation.NonNull;
-import android.view.View;
+import androidx.annotation.Nullable;
+import com.rd.animation.interpolator.LookupInterpolator;
 import com.rd.animation.type.AnimationType;
 
+/**
+ * Indicator model. Values of {@link IndicatorStyle} are read from the style, which is shared with all indicators
+ * it's applied to, and changing any of them replaces style of this indicator with its modified copy.
+ * Only count, selection, size and values which aren't part of style are kept by each indicator.
+ */
 public class Indicator {
 
     public static final int DEFAULT_COUNT = 3;
     public static final int MIN_COUNT = 1;
     public static final int COUNT_NONE = -1;
+    public static final int NO_ID = -1; //Same as View.NO_ID
 
     public static final int DEFAULT_RADIUS_DP = 6;
     public static final int DEFAULT_PADDING_DP = 8;
     public static final int IDLE_ANIMATION_DURATION = 250;
 
+    //Sizes are 0 until style is applied
+    private static final IndicatorStyle DEFAULT_STYLE = new IndicatorStyle.Builder(0).build();
+
+    private IndicatorStyle style = DEFAULT_STYLE;
+
     private int height;
     private int width;
-    private int radius;
 
-    private int padding;
     private int paddingLeft;
     private int paddingTop;
     private int paddingRight;
     private int paddingBottom;
 
-    private int stroke; //For "Fill" animation only
-    private float scaleFactor; //For "Scale" animation only
-
-    private int unselectedColor;
-    private int selectedColor;
-
     private boolean interactiveAnimation;
-    private boolean autoVisibility;
-    private boolean dynamicCount;
 
-    private boolean fadeOnIdle;
+    private boolean layerCacheEnabled = true;
+    private boolean bakedAnimation;
+    private boolean gammaCorrected;
+    private boolean colorGradient;
+
     private boolean isIdle;
-    private long idleDuration;
 
-    private long animationDuration;
     private int count = DEFAULT_COUNT;
+    private float windowOffset; //Position of first visible indicator, see maxVisibleCount
 
     private int selectedPosition;
     private int selectingPosition;
     private int lastSelectedPosition;
 
-    private int viewPagerId = View.NO_ID;
+    private LookupInterpolator interpolator;
 
-    private Orientation orientation;
-    private AnimationType animationType;
-    private RtlMode rtlMode;
+    private int[] coordinates; //Indicator centers along orientation axis
+    private boolean coordinatesValid;
 
     public int getHeight() {
         return height;
@@ -68,19 +72,25 @@ public class Indicator {
     }
 
     public int getRadius() {
-        return radius;
+        return style.getRadius();
     }
 
     public void setRadius(int radius) {
-        this.radius = radius;
+        if (style.getRadius() != radius) {
+            style = style.buildUpon().radius(radius).buildUnchecked();
+            invalidateCoordinates();
+        }
     }
 
     public int getPadding() {
-        return padding;
+        return style.getPadding();
     }
 
     public void setPadding(int padding) {
-        this.padding = padding;
+        if (style.getPadding() != padding) {
+            style = style.buildUpon().padding(padding).buildUnchecked();
+            invalidateCoordinates();
+        }
     }
 
     public int getPaddingLeft() {
@@ -115,36 +125,51 @@ public class Indicator {
         this.paddingBottom = paddingBottom;
     }
 
+    /**
+     * Return stroke width, used by "Fill" animation only.
+     */
     public int getStroke() {
-        return stroke;
+        return style.getStroke();
     }
 
     public void setStroke(int stroke) {
-        this.stroke = stroke;
+        if (style.getStroke() != stroke) {
+            style = style.buildUpon().stroke(stroke).buildUnchecked();
+            invalidateCoordinates();
+        }
     }
 
+    /**
+     * Return scale of unselected indicators, used by "Scale" animations only.
+     */
     public float getScaleFactor() {
-        return scaleFactor;
+        return style.getScaleFactor();
     }
 
     public void setScaleFactor(float scaleFactor) {
-        this.scaleFactor = scaleFactor;
+        if (style.getScaleFactor() != scaleFactor) {
+            style = style.buildUpon().scaleFactor(scaleFactor).buildUnchecked();
+        }
     }
 
     public int getUnselectedColor() {
-        return unselectedColor;
+        return style.getUnselectedColor();
     }
 
     public void setUnselectedColor(int unselectedColor) {
-        this.unselectedColor = unselectedColor;
+        if (style.getUnselectedColor() != unselectedColor) {
+            style = style.buildUpon().unselectedColor(unselectedColor).buildUnchecked();
+        }
     }
 
     public int getSelectedColor() {
-        return selectedColor;
+        return style.getSelectedColor();
     }
 
     public void setSelectedColor(int selectedColor) {
-        this.selectedColor = selectedColor;
+        if (style.getSelectedColor() != selectedColor) {
+            style = style.buildUpon().selectedColor(selectedColor).buildUnchecked();
+        }
     }
 
     public boolean isInteractiveAnimation() {
@@ -156,27 +181,65 @@ public class Indicator {
     }
 
     public boolean isAutoVisibility() {
-        return autoVisibility;
+        return style.isAutoVisibility();
     }
 
     public void setAutoVisibility(boolean autoVisibility) {
-        this.autoVisibility = autoVisibility;
+        if (style.isAutoVisibility() != autoVisibility) {
+            style = style.buildUpon().autoVisibility(autoVisibility).buildUnchecked();
+        }
     }
 
     public boolean isDynamicCount() {
-        return dynamicCount;
+        return style.isDynamicCount();
     }
 
     public void setDynamicCount(boolean dynamicCount) {
-        this.dynamicCount = dynamicCount;
+        if (style.isDynamicCount() != dynamicCount) {
+            style = style.buildUpon().dynamicCount(dynamicCount).buildUnchecked();
+        }
+    }
+
+    public boolean isLayerCacheEnabled() {
+        return layerCacheEnabled;
+    }
+
+    public void setLayerCacheEnabled(boolean layerCacheEnabled) {
+        this.layerCacheEnabled = layerCacheEnabled;
+    }
+
+    public boolean isBakedAnimation() {
+        return bakedAnimation;
+    }
+
+    public void setBakedAnimation(boolean bakedAnimation) {
+        this.bakedAnimation = bakedAnimation;
+    }
+
+    public boolean isGammaCorrected() {
+        return gammaCorrected;
+    }
+
+    public void setGammaCorrected(boolean gammaCorrected) {
+        this.gammaCorrected = gammaCorrected;
+    }
+
+    public boolean isColorGradient() {
+        return colorGradient;
+    }
+
+    public void setColorGradient(boolean colorGradient) {
+        this.colorGradient = colorGradient;
     }
 
     public boolean isFadeOnIdle() {
-        return fadeOnIdle;
+        return style.isFadeOnIdle();
     }
 
     public void setFadeOnIdle(boolean fadeOnIdle) {
-        this.fadeOnIdle = fadeOnIdle;
+        if (style.isFadeOnIdle() != fadeOnIdle) {
+            style = style.buildUpon().fadeOnIdle(fadeOnIdle).buildUnchecked();
+        }
     }
 
     public boolean isIdle() {
@@ -188,19 +251,23 @@ public class Indicator {
     }
 
     public long getIdleDuration() {
-        return idleDuration;
+        return style.getIdleDuration();
     }
 
     public void setIdleDuration(long idleDuration) {
-        this.idleDuration = idleDuration;
+        if (style.getIdleDuration() != idleDuration) {
+            style = style.buildUpon().idleDuration(idleDuration).buildUnchecked();
+        }
     }
 
     public long getAnimationDuration() {
-        return animationDuration;
+        return style.getAnimationDuration();
     }
 
     public void setAnimationDuration(long animationDuration) {
-        this.animationDuration = animationDuration;
+        if (style.getAnimationDuration() != animationDuration) {
+            style = style.buildUpon().animationDuration(animationDuration).buildUnchecked();
+        }
     }
 
     public int getCount() {
@@ -208,7 +275,31 @@ public class Indicator {
     }
 
     public void setCount(int count) {
-        this.count = count;
+        if (this.count != count) {
+            this.count = count;
+            invalidateCoordinates();
+        }
+    }
+
+    /**
+     * Return max number of indicators displayed at once or {@link #COUNT_NONE} if all indicators are displayed.
+     */
+    public int getMaxVisibleCount() {
+        return style.getMaxVisibleCount();
+    }
+
+    public void setMaxVisibleCount(int maxVisibleCount) {
+        if (style.getMaxVisibleCount() != maxVisibleCount) {
+            style = style.buildUpon().maxVisibleCount(maxVisibleCount).buildUnchecked();
+        }
+    }
+
+    public float getWindowOffset() {
+        return windowOffset;
+    }
+
+    public void setWindowOffset(float windowOffset) {
+        this.windowOffset = windowOffset;
     }
 
     public int getSelectedPosition() {
@@ -236,46 +327,141 @@ public class Indicator {
     }
 
     public int getViewPagerId() {
-        return viewPagerId;
+        return style.getViewPagerId();
     }
 
     public void setViewPagerId(int viewPagerId) {
-        this.viewPagerId = viewPagerId;
+        if (style.getViewPagerId() != viewPagerId) {
+            style = style.buildUpon().viewPagerId(viewPagerId).buildUnchecked();
+        }
     }
 
     @NonNull
     public Orientation getOrientation() {
+        return style.getOrientation();
+    }
+
+    public void setOrientation(@Nullable Orientation orientation) {
         if (orientation == null) {
             orientation = Orientation.HORIZONTAL;
         }
-        return orientation;
-    }
 
-    public void setOrientation(Orientation orientation) {
-        this.orientation = orientation;
+        if (style.getOrientation() != orientation) {
+            style = style.buildUpon().orientation(orientation).buildUnchecked();
+            invalidateCoordinates();
+        }
     }
 
     @NonNull
     public AnimationType getAnimationType() {
+        return style.getAnimationType();
+    }
+
+    public void setAnimationType(@Nullable AnimationType animationType) {
         if (animationType == null) {
             animationType = AnimationType.NONE;
         }
-        return animationType;
+
+        AnimationType oldType = style.getAnimationType();
+        if (oldType == animationType) {
+            return;
+        }
+
+        style = style.buildUpon().animationType(animationType).buildUnchecked();
+
+        //Only drop animation takes extra space, so other type changes keep coordinates
+        if ((oldType == AnimationType.DROP) != (animationType == AnimationType.DROP)) {
+            invalidateCoordinates();
+        }
+    }
+
+    @NonNull
+    public LookupInterpolator getInterpolator() {
+        if (interpolator == null) {
+            interpolator = LookupInterpolator.ACCELERATE_DECELERATE;
+        }
+        return interpolator;
     }
 
-    public void setAnimationType(AnimationType animationType) {
-        this.animationType = animationType;
+    public void setInterpolator(LookupInterpolator interpolator) {
+        this.interpolator = interpolator;
     }
 
     @NonNull
     public RtlMode getRtlMode() {
+        return style.getRtlMode();
+    }
+
+    public void setRtlMode(@Nullable RtlMode rtlMode) {
         if (rtlMode == null) {
             rtlMode = RtlMode.Off;
         }
-        return rtlMode;
+
+        if (style.getRtlMode() != rtlMode) {
+            style = style.buildUpon().rtlMode(rtlMode).buildUnchecked();
+        }
+    }
+
+    /**
+     * Share style with this indicator and select its initial position.
+     */
+    public void setStyle(@NonNull IndicatorStyle style) {
+        IndicatorStyle oldStyle = this.style;
+        this.style = style;
+
+        boolean isDropChanged = (oldStyle.getAnimationType() == AnimationType.DROP) != (style.getAnimationType() == AnimationType.DROP);
+        if (isDropChanged
+                || oldStyle.getOrientation() != style.getOrientation()
+                || oldStyle.getRadius() != style.getRadius()
+                || oldStyle.getPadding() != style.getPadding()
+                || oldStyle.getStroke() != style.getStroke()) {
+            invalidateCoordinates();
+        }
+
+        setCount(style.getCount());
+        setInteractiveAnimation(style.isInteractiveAnimation());
+
+        int position = Math.max(0, Math.min(style.getSelection(), count - 1));
+        setSelectedPosition(position);
+        setSelectingPosition(position);
+        setLastSelectedPosition(position);
+    }
+
+    /**
+     * Return style this indicator is drawn with. Its count, selection and interactive animation values
+     * are those style was applied with, current ones are kept by indicator.
+     */
+    @NonNull
+    public IndicatorStyle getStyle() {
+        return style;
+    }
+
+    /**
+     * Return cached table of indicator centers along orientation axis, where item at count index
+     * holds coordinate used for positions out of range. Table is valid until any of count, radius,
+     * stroke, padding or orientation values is changed, or drop animation is switched on or off.
+     *
+     * @return cached table or null if it should be rebuilt.
+     */
+    @Nullable
+    public int[] getCoordinates() {
+        return coordinatesValid ? coordinates : null;
+    }
+
+    /**
+     * Return array of last built table, even if it is no longer valid, so it could be rebuilt in place.
+     */
+    @Nullable
+    public int[] getCoordinatesBuffer() {
+        return coordinates;
+    }
+
+    public void setCoordinates(@Nullable int[] coordinates) {
+        this.coordinates = coordinates;
+        this.coordinatesValid = coordinates != null;
     }
 
-    public void setRtlMode(RtlMode rtlMode) {
-        this.rtlMode = rtlMode;
+    private void invalidateCoordinates() {
+        coordinatesValid = false;
     }
 }
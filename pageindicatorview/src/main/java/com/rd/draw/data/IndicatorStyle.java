@@ -0,0 +1,377 @@
+package com.rd.draw.data;
+
+import androidx.annotation.NonNull;
+import com.rd.animation.type.AnimationType;
+import com.rd.animation.type.BaseAnimation;
+import com.rd.animation.type.FillAnimation;
+import com.rd.animation.type.ScaleAnimation;
+
+/**
+ * Immutable set of indicator attributes. Style parsed from a style resource is cached
+ * and shared by all indicators using it, see {@link com.rd.draw.controller.AttributeController}.
+ */
+public final class IndicatorStyle {
+
+    public static final int DEFAULT_IDLE_DURATION = 3000;
+
+    private final int viewPagerId;
+    private final boolean autoVisibility;
+    private final boolean dynamicCount;
+    private final int count;
+    private final int maxVisibleCount;
+    private final int selection;
+
+    private final int unselectedColor;
+    private final int selectedColor;
+
+    private final boolean interactiveAnimation;
+    private final long animationDuration;
+    private final AnimationType animationType;
+    private final RtlMode rtlMode;
+    private final boolean fadeOnIdle;
+    private final long idleDuration;
+
+    private final Orientation orientation;
+    private final int radius;
+    private final int padding;
+    private final float scaleFactor;
+    private final int stroke;
+
+    private IndicatorStyle(@NonNull Builder builder) {
+        viewPagerId = builder.viewPagerId;
+        autoVisibility = builder.autoVisibility;
+        dynamicCount = builder.dynamicCount;
+        count = builder.count;
+        maxVisibleCount = builder.maxVisibleCount;
+        selection = builder.selection;
+
+        unselectedColor = builder.unselectedColor;
+        selectedColor = builder.selectedColor;
+
+        interactiveAnimation = builder.interactiveAnimation;
+        animationDuration = builder.animationDuration;
+        animationType = builder.animationType;
+        rtlMode = builder.rtlMode;
+        fadeOnIdle = builder.fadeOnIdle;
+        idleDuration = builder.idleDuration;
+
+        orientation = builder.orientation;
+        radius = builder.radius;
+        padding = builder.padding;
+        scaleFactor = builder.scaleFactor;
+        stroke = builder.stroke;
+    }
+
+    public int getViewPagerId() {
+        return viewPagerId;
+    }
+
+    public boolean isAutoVisibility() {
+        return autoVisibility;
+    }
+
+    public boolean isDynamicCount() {
+        return dynamicCount;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getMaxVisibleCount() {
+        return maxVisibleCount;
+    }
+
+    /**
+     * Return position selected when style is applied.
+     */
+    public int getSelection() {
+        return selection;
+    }
+
+    public int getUnselectedColor() {
+        return unselectedColor;
+    }
+
+    public int getSelectedColor() {
+        return selectedColor;
+    }
+
+    public boolean isInteractiveAnimation() {
+        return interactiveAnimation;
+    }
+
+    public long getAnimationDuration() {
+        return animationDuration;
+    }
+
+    @NonNull
+    public AnimationType getAnimationType() {
+        return animationType;
+    }
+
+    @NonNull
+    public RtlMode getRtlMode() {
+        return rtlMode;
+    }
+
+    public boolean isFadeOnIdle() {
+        return fadeOnIdle;
+    }
+
+    public long getIdleDuration() {
+        return idleDuration;
+    }
+
+    @NonNull
+    public Orientation getOrientation() {
+        return orientation;
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+
+    public int getPadding() {
+        return padding;
+    }
+
+    public float getScaleFactor() {
+        return scaleFactor;
+    }
+
+    public int getStroke() {
+        return stroke;
+    }
+
+    /**
+     * Return builder initialized with values of this style.
+     */
+    @NonNull
+    public Builder buildUpon() {
+        return new Builder(this);
+    }
+
+    /**
+     * Builder of style with the same defaults as {@link com.rd.PageIndicatorView} has without any attributes.
+     */
+    public static final class Builder {
+
+        private int viewPagerId = Indicator.NO_ID;
+        private boolean autoVisibility = true;
+        private boolean dynamicCount;
+        private int count = Indicator.DEFAULT_COUNT;
+        private int maxVisibleCount = Indicator.COUNT_NONE;
+        private int selection;
+
+        private int unselectedColor = 0x33FFFFFF; //ColorAnimation.DEFAULT_UNSELECTED_COLOR
+        private int selectedColor = 0xFFFFFFFF; //ColorAnimation.DEFAULT_SELECTED_COLOR
+
+        private boolean interactiveAnimation;
+        private long animationDuration = BaseAnimation.DEFAULT_ANIMATION_TIME;
+        private AnimationType animationType = AnimationType.NONE;
+        private RtlMode rtlMode = RtlMode.Off;
+        private boolean fadeOnIdle;
+        private long idleDuration = DEFAULT_IDLE_DURATION;
+
+        private Orientation orientation = Orientation.HORIZONTAL;
+        private int radius;
+        private int padding;
+        private float scaleFactor = ScaleAnimation.DEFAULT_SCALE_FACTOR;
+        private int stroke;
+
+        /**
+         * @param density display density, e.g. {@code DisplayMetrics.density}, to convert default sizes from dp.
+         */
+        public Builder(float density) {
+            radius = (int) (Indicator.DEFAULT_RADIUS_DP * density);
+            padding = (int) (Indicator.DEFAULT_PADDING_DP * density);
+            stroke = (int) (FillAnimation.DEFAULT_STROKE_DP * density);
+        }
+
+        private Builder(@NonNull IndicatorStyle style) {
+            viewPagerId = style.viewPagerId;
+            autoVisibility = style.autoVisibility;
+            dynamicCount = style.dynamicCount;
+            count = style.count;
+            maxVisibleCount = style.maxVisibleCount;
+            selection = style.selection;
+
+            unselectedColor = style.unselectedColor;
+            selectedColor = style.selectedColor;
+
+            interactiveAnimation = style.interactiveAnimation;
+            animationDuration = style.animationDuration;
+            animationType = style.animationType;
+            rtlMode = style.rtlMode;
+            fadeOnIdle = style.fadeOnIdle;
+            idleDuration = style.idleDuration;
+
+            orientation = style.orientation;
+            radius = style.radius;
+            padding = style.padding;
+            scaleFactor = style.scaleFactor;
+            stroke = style.stroke;
+        }
+
+        @NonNull
+        public Builder viewPagerId(int viewPagerId) {
+            this.viewPagerId = viewPagerId;
+            return this;
+        }
+
+        @NonNull
+        public Builder autoVisibility(boolean autoVisibility) {
+            this.autoVisibility = autoVisibility;
+            return this;
+        }
+
+        @NonNull
+        public Builder dynamicCount(boolean dynamicCount) {
+            this.dynamicCount = dynamicCount;
+            return this;
+        }
+
+        @NonNull
+        public Builder count(int count) {
+            this.count = count;
+            return this;
+        }
+
+        @NonNull
+        public Builder maxVisibleCount(int maxVisibleCount) {
+            this.maxVisibleCount = maxVisibleCount;
+            return this;
+        }
+
+        @NonNull
+        public Builder selection(int selection) {
+            this.selection = selection;
+            return this;
+        }
+
+        @NonNull
+        public Builder unselectedColor(int unselectedColor) {
+            this.unselectedColor = unselectedColor;
+            return this;
+        }
+
+        @NonNull
+        public Builder selectedColor(int selectedColor) {
+            this.selectedColor = selectedColor;
+            return this;
+        }
+
+        @NonNull
+        public Builder interactiveAnimation(boolean interactiveAnimation) {
+            this.interactiveAnimation = interactiveAnimation;
+            return this;
+        }
+
+        @NonNull
+        public Builder animationDuration(long animationDuration) {
+            this.animationDuration = animationDuration;
+            return this;
+        }
+
+        @NonNull
+        public Builder animationType(@NonNull AnimationType animationType) {
+            this.animationType = animationType;
+            return this;
+        }
+
+        @NonNull
+        public Builder rtlMode(@NonNull RtlMode rtlMode) {
+            this.rtlMode = rtlMode;
+            return this;
+        }
+
+        @NonNull
+        public Builder fadeOnIdle(boolean fadeOnIdle) {
+            this.fadeOnIdle = fadeOnIdle;
+            return this;
+        }
+
+        @NonNull
+        public Builder idleDuration(long idleDuration) {
+            this.idleDuration = idleDuration;
+            return this;
+        }
+
+        @NonNull
+        public Builder orientation(@NonNull Orientation orientation) {
+            this.orientation = orientation;
+            return this;
+        }
+
+        @NonNull
+        public Builder radius(int radius) {
+            this.radius = radius;
+            return this;
+        }
+
+        @NonNull
+        public Builder padding(int padding) {
+            this.padding = padding;
+            return this;
+        }
+
+        @NonNull
+        public Builder scaleFactor(float scaleFactor) {
+            this.scaleFactor = scaleFactor;
+            return this;
+        }
+
+        @NonNull
+        public Builder stroke(int stroke) {
+            this.stroke = stroke;
+            return this;
+        }
+
+        /**
+         * Build style with values clamped to valid ranges: negative sizes and durations are 0, scale factor is
+         * in range of {@link ScaleAnimation#MIN_SCALE_FACTOR} and {@link ScaleAnimation#MAX_SCALE_FACTOR},
+         * stroke is not wider than radius and is 0 for any animation but {@link AnimationType#FILL}.
+         */
+        @NonNull
+        public IndicatorStyle build() {
+            //Values are clamped in a copy, so builder keeps values it was given
+            Builder builder = new Builder(buildUnchecked());
+            builder.clamp();
+            return builder.buildUnchecked();
+        }
+
+        /**
+         * Build style with values as they are, for indicator changed value by value with already checked values.
+         */
+        @NonNull
+        IndicatorStyle buildUnchecked() {
+            return new IndicatorStyle(this);
+        }
+
+        private void clamp() {
+            if (count < 0) {
+                count = Indicator.DEFAULT_COUNT;
+            }
+
+            if (maxVisibleCount <= 0) {
+                maxVisibleCount = Indicator.COUNT_NONE;
+            }
+
+            selection = Math.max(0, Math.min(selection, count - 1));
+            animationDuration = Math.max(0, animationDuration);
+            idleDuration = Math.max(0, idleDuration);
+
+            radius = Math.max(0, radius);
+            padding = Math.max(0, padding);
+            scaleFactor = Math.max(ScaleAnimation.MIN_SCALE_FACTOR, Math.min(scaleFactor, ScaleAnimation.MAX_SCALE_FACTOR));
+
+            //Stroke is drawn only by fill animation
+            if (animationType == AnimationType.FILL) {
+                stroke = Math.max(0, Math.min(stroke, radius));
+            } else {
+                stroke = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.rd.draw.data;
+
+/**
+ * Mutable holder of selecting position and it's progress, reused on every scroll frame
+ * to avoid boxing values while pager is scrolled.
+ */
+public class SelectingProgress {
+
+    private int position;
+    private float progress;
+
+    public int getPosition() {
+        return position;
+    }
+
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
+    public float getProgress() {
+        return progress;
+    }
+
+    public void setProgress(float progress) {
+        this.progress = progress;
+    }
+}
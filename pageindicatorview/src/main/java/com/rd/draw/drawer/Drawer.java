@@ -6,6 +6,7 @@ import androidx.annotation.NonNull;
 import com.rd.animation.data.Value;
 import com.rd.draw.data.Indicator;
 import com.rd.draw.drawer.type.*;
+import com.rd.utils.CoordinatesUtils;
 
 public class Drawer {
 
@@ -20,25 +21,22 @@ public class Drawer {
     private SwapDrawer swapDrawer;
     private ScaleDownDrawer scaleDownDrawer;
 
+    private Paint paint;
+    private Indicator indicator;
+    private float[] points = new float[0];
+
     private int position;
     private int coordinateX;
     private int coordinateY;
 
     public Drawer(@NonNull Indicator indicator) {
-        Paint paint = new Paint();
+        this.indicator = indicator;
+
+        paint = new Paint();
         paint.setStyle(Paint.Style.FILL);
         paint.setAntiAlias(true);
 
         basicDrawer = new BasicDrawer(paint, indicator);
-        colorDrawer = new ColorDrawer(paint, indicator);
-        scaleDrawer = new ScaleDrawer(paint, indicator);
-        wormDrawer = new WormDrawer(paint, indicator);
-        slideDrawer = new SlideDrawer(paint, indicator);
-        fillDrawer = new FillDrawer(paint, indicator);
-        thinWormDrawer = new ThinWormDrawer(paint, indicator);
-        dropDrawer = new DropDrawer(paint, indicator);
-        swapDrawer = new SwapDrawer(paint, indicator);
-        scaleDownDrawer = new ScaleDownDrawer(paint, indicator);
     }
 
     public void setup(int position, int coordinateX, int coordinateY) {
@@ -48,62 +46,178 @@ public class Drawer {
     }
 
     public void drawBasic(@NonNull Canvas canvas, boolean isSelectedItem) {
-        if (colorDrawer != null) {
+        if (basicDrawer != null) {
             basicDrawer.draw(canvas, position, isSelectedItem, coordinateX, coordinateY);
         }
     }
 
-    public void drawColor(@NonNull Canvas canvas, @NonNull Value value) {
-        if (colorDrawer != null) {
-            colorDrawer.draw(canvas, value, position, coordinateX, coordinateY);
+    public void drawUnselected(@NonNull Canvas canvas, float radiusScale) {
+        if (basicDrawer != null) {
+            basicDrawer.drawUnselected(canvas, coordinateX, coordinateY, radiusScale);
         }
     }
 
-    public void drawScale(@NonNull Canvas canvas, @NonNull Value value) {
-        if (scaleDrawer != null) {
-            scaleDrawer.draw(canvas, value, position, coordinateX, coordinateY);
+    /**
+     * Draw indicators in range of positions as unselected ones with a single batched call.
+     */
+    public void drawUnselected(@NonNull Canvas canvas, int fromPosition, int toPosition) {
+        int pointCount = toPosition - fromPosition + 1;
+        if (basicDrawer == null || pointCount <= 0) {
+            return;
+        }
+
+        if (points.length < pointCount * 2) {
+            points = new float[pointCount * 2];
+        }
+
+        for (int i = 0; i < pointCount; i++) {
+            int position = fromPosition + i;
+            points[i * 2] = CoordinatesUtils.getXCoordinate(indicator, position);
+            points[i * 2 + 1] = CoordinatesUtils.getYCoordinate(indicator, position);
         }
+
+        basicDrawer.drawUnselected(canvas, points, pointCount);
+    }
+
+    public void drawColor(@NonNull Canvas canvas, @NonNull Value value) {
+        getColorDrawer().draw(canvas, value, position, coordinateX, coordinateY);
+    }
+
+    public void drawScale(@NonNull Canvas canvas, @NonNull Value value) {
+        getScaleDrawer().draw(canvas, value, position, coordinateX, coordinateY);
     }
 
     public void drawWorm(@NonNull Canvas canvas, @NonNull Value value) {
-        if (wormDrawer != null) {
-            wormDrawer.draw(canvas, value, coordinateX, coordinateY);
-        }
+        getWormDrawer().draw(canvas, value, coordinateX, coordinateY);
     }
 
     public void drawSlide(@NonNull Canvas canvas, @NonNull Value value) {
-        if (slideDrawer != null) {
-            slideDrawer.draw(canvas, value, coordinateX, coordinateY);
-        }
+        getSlideDrawer().draw(canvas, value, coordinateX, coordinateY);
     }
 
     public void drawFill(@NonNull Canvas canvas, @NonNull Value value) {
-        if (fillDrawer != null) {
-            fillDrawer.draw(canvas, value, position, coordinateX, coordinateY);
-        }
+        getFillDrawer().draw(canvas, value, position, coordinateX, coordinateY);
     }
 
     public void drawThinWorm(@NonNull Canvas canvas, @NonNull Value value) {
-        if (thinWormDrawer != null) {
-            thinWormDrawer.draw(canvas, value, coordinateX, coordinateY);
-        }
+        getThinWormDrawer().draw(canvas, value, coordinateX, coordinateY);
     }
 
     public void drawDrop(@NonNull Canvas canvas, @NonNull Value value) {
-        if (dropDrawer != null) {
-            dropDrawer.draw(canvas, value, coordinateX, coordinateY);
-        }
+        getDropDrawer().draw(canvas, value, coordinateX, coordinateY);
     }
 
     public void drawSwap(@NonNull Canvas canvas, @NonNull Value value) {
-        if (swapDrawer != null) {
-            swapDrawer.draw(canvas, value, position, coordinateX, coordinateY);
-        }
+        getSwapDrawer().draw(canvas, value, position, coordinateX, coordinateY);
     }
 
     public void drawScaleDown(@NonNull Canvas canvas, @NonNull Value value) {
-        if (scaleDownDrawer != null) {
-            scaleDownDrawer.draw(canvas, value, position, coordinateX, coordinateY);
+        getScaleDownDrawer().draw(canvas, value, position, coordinateX, coordinateY);
+    }
+
+    /**
+     * Release drawers of all animation types. Indicator uses one animation type at a time,
+     * so drawers are created on first draw of their type and released once another type is drawn.
+     */
+    public void releaseAnimationDrawers() {
+        colorDrawer = null;
+        scaleDrawer = null;
+        wormDrawer = null;
+        slideDrawer = null;
+        fillDrawer = null;
+        thinWormDrawer = null;
+        dropDrawer = null;
+        swapDrawer = null;
+        scaleDownDrawer = null;
+    }
+
+    @NonNull
+    private ColorDrawer getColorDrawer() {
+        if (colorDrawer == null) {
+            releaseAnimationDrawers();
+            colorDrawer = new ColorDrawer(paint, indicator);
+        }
+
+        return colorDrawer;
+    }
+
+    @NonNull
+    private ScaleDrawer getScaleDrawer() {
+        if (scaleDrawer == null) {
+            releaseAnimationDrawers();
+            scaleDrawer = new ScaleDrawer(paint, indicator);
         }
+
+        return scaleDrawer;
+    }
+
+    @NonNull
+    private WormDrawer getWormDrawer() {
+        if (wormDrawer == null) {
+            releaseAnimationDrawers();
+            wormDrawer = new WormDrawer(paint, indicator);
+        }
+
+        return wormDrawer;
+    }
+
+    @NonNull
+    private SlideDrawer getSlideDrawer() {
+        if (slideDrawer == null) {
+            releaseAnimationDrawers();
+            slideDrawer = new SlideDrawer(paint, indicator);
+        }
+
+        return slideDrawer;
+    }
+
+    @NonNull
+    private FillDrawer getFillDrawer() {
+        if (fillDrawer == null) {
+            releaseAnimationDrawers();
+            fillDrawer = new FillDrawer(paint, indicator);
+        }
+
+        return fillDrawer;
+    }
+
+    @NonNull
+    private ThinWormDrawer getThinWormDrawer() {
+        if (thinWormDrawer == null) {
+            releaseAnimationDrawers();
+            thinWormDrawer = new ThinWormDrawer(paint, indicator);
+        }
+
+        return thinWormDrawer;
+    }
+
+    @NonNull
+    private DropDrawer getDropDrawer() {
+        if (dropDrawer == null) {
+            releaseAnimationDrawers();
+            dropDrawer = new DropDrawer(paint, indicator);
+        }
+
+        return dropDrawer;
+    }
+
+    @NonNull
+    private SwapDrawer getSwapDrawer() {
+        if (swapDrawer == null) {
+            releaseAnimationDrawers();
+            swapDrawer = new SwapDrawer(paint, indicator);
+        }
+
+        return swapDrawer;
+    }
+
+    @NonNull
+    private ScaleDownDrawer getScaleDownDrawer() {
+        if (scaleDownDrawer == null) {
+            releaseAnimationDrawers();
+            scaleDownDrawer = new ScaleDownDrawer(paint, indicator);
+        }
+
+        return scaleDownDrawer;
     }
 }
@@ -9,6 +9,7 @@ import com.rd.draw.data.Indicator;
 public class BasicDrawer extends BaseDrawer {
 
     private Paint strokePaint;
+    private Paint pointPaint;
 
     public BasicDrawer(@NonNull Paint paint, @NonNull Indicator indicator) {
         super(paint, indicator);
@@ -17,6 +18,11 @@ public class BasicDrawer extends BaseDrawer {
         strokePaint.setStyle(Paint.Style.STROKE);
         strokePaint.setAntiAlias(true);
         strokePaint.setStrokeWidth(indicator.getStroke());
+
+        pointPaint = new Paint();
+        pointPaint.setStyle(Paint.Style.STROKE);
+        pointPaint.setStrokeCap(Paint.Cap.ROUND);
+        pointPaint.setAntiAlias(true);
     }
 
     public void draw(
@@ -26,13 +32,65 @@ public class BasicDrawer extends BaseDrawer {
             int coordinateX,
             int coordinateY) {
 
+        boolean isSelectedPosition = position == indicator.getSelectedPosition();
+        draw(canvas, isSelectedItem, isSelectedPosition, coordinateX, coordinateY, 1);
+    }
+
+    public void drawUnselected(@NonNull Canvas canvas, int coordinateX, int coordinateY) {
+        drawUnselected(canvas, coordinateX, coordinateY, 1);
+    }
+
+    /**
+     * Draw unselected indicator with radius multiplied by specified scale, e.g. for indicators at window edges.
+     */
+    public void drawUnselected(@NonNull Canvas canvas, int coordinateX, int coordinateY, float radiusScale) {
+        draw(canvas, false, false, coordinateX, coordinateY, radiusScale);
+    }
+
+    /**
+     * Draw unselected indicators with single round-capped points call.
+     * Stroked indicators of {@link AnimationType#FILL} are drawn one by one.
+     *
+     * @param points     array of x and y coordinates pairs.
+     * @param pointCount number of indicators in array.
+     */
+    public void drawUnselected(@NonNull Canvas canvas, @NonNull float[] points, int pointCount) {
+        AnimationType animationType = indicator.getAnimationType();
+        if (animationType == AnimationType.FILL) {
+            for (int i = 0; i < pointCount; i++) {
+                drawUnselected(canvas, (int) points[i * 2], (int) points[i * 2 + 1]);
+            }
+            return;
+        }
+
         float radius = indicator.getRadius();
+        if (animationType == AnimationType.SCALE) {
+            radius *= indicator.getScaleFactor();
+        }
+
+        if (radius <= 0 || pointCount <= 0) {
+            return;
+        }
+
+        pointPaint.setColor(indicator.getUnselectedColor());
+        pointPaint.setStrokeWidth(radius * 2);
+        canvas.drawPoints(points, 0, pointCount * 2, pointPaint);
+    }
+
+    private void draw(
+            @NonNull Canvas canvas,
+            boolean isSelectedItem,
+            boolean isSelectedPosition,
+            int coordinateX,
+            int coordinateY,
+            float radiusScale) {
+
+        float radius = indicator.getRadius() * radiusScale;
         int strokePx = indicator.getStroke();
         float scaleFactor = indicator.getScaleFactor();
 
         int selectedColor = indicator.getSelectedColor();
         int unselectedColor = indicator.getUnselectedColor();
-        int selectedPosition = indicator.getSelectedPosition();
         AnimationType animationType = indicator.getAnimationType();
 
 		if (animationType == AnimationType.SCALE && !isSelectedItem) {
@@ -43,12 +101,12 @@ public class BasicDrawer extends BaseDrawer {
 		}
 
         int color = unselectedColor;
-        if (position == selectedPosition) {
+        if (isSelectedPosition) {
             color = selectedColor;
         }
 
         Paint paint;
-        if (animationType == AnimationType.FILL && position != selectedPosition) {
+        if (animationType == AnimationType.FILL && !isSelectedPosition) {
             paint = strokePaint;
             paint.setStrokeWidth(strokePx);
         } else {
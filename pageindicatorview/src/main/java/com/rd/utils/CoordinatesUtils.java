@@ -2,13 +2,15 @@ package com.rd.utils;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import android.util.Pair;
 import com.rd.animation.type.AnimationType;
 import com.rd.draw.data.Indicator;
 import com.rd.draw.data.Orientation;
+import com.rd.draw.data.SelectingProgress;
 
 public class CoordinatesUtils {
 
+	private static final float EDGE_RADIUS_SCALE = 0.5f;
+
 	@SuppressWarnings("UnnecessaryLocalVariable")
 	public static int getCoordinate(@Nullable Indicator indicator, int position) {
 		if (indicator == null) {
@@ -65,57 +67,259 @@ public class CoordinatesUtils {
 		float heightCoordinate;
 
 		if (indicator.getOrientation() == Orientation.HORIZONTAL) {
-			lengthCoordinate = x;
+			lengthCoordinate = x - indicator.getPaddingLeft();
 			heightCoordinate = y;
 		} else {
-			lengthCoordinate = y;
+			lengthCoordinate = y - indicator.getPaddingTop();
 			heightCoordinate = x;
 		}
 
 		return getFitPosition(indicator, lengthCoordinate, heightCoordinate);
 	}
 
+	/**
+	 * Return position of indicator closest to specified point, if that point lies within indicator
+	 * bounds extended by slop value. Uses the same geometry indicators are drawn with.
+	 *
+	 * @param indicator indicator to look position in.
+	 * @param x         x coordinate of point in view coordinates.
+	 * @param y         y coordinate of point in view coordinates.
+	 * @param slop      distance in px point could be away from indicator edge.
+	 * @return position of nearest indicator or -1 if there is no indicator within slop.
+	 */
+	public static int getNearestPosition(@Nullable Indicator indicator, float x, float y, float slop) {
+		if (indicator == null) {
+			return -1;
+		}
+
+		int count = indicator.getCount();
+		if (count <= 0) {
+			return -1;
+		}
+
+		int step = getStep(indicator);
+		boolean isHorizontal = indicator.getOrientation() == Orientation.HORIZONTAL;
+		int windowShift = getWindowShift(indicator);
+		float lengthCoordinate = isHorizontal ? x - indicator.getPaddingLeft() : y - indicator.getPaddingTop();
+		lengthCoordinate += windowShift;
+		int firstCoordinate = getHorizontalCoordinate(indicator, 0);
+
+		int position = 0;
+		if (step > 0) {
+			position = Math.round((lengthCoordinate - firstCoordinate) / step);
+		}
+
+		int firstPosition = getFirstVisiblePosition(indicator);
+		int lastPosition = getLastVisiblePosition(indicator);
+
+		if (position < firstPosition) {
+			position = firstPosition;
+
+		} else if (position > lastPosition) {
+			position = lastPosition;
+		}
+
+		float bound = indicator.getRadius() + (indicator.getStroke() / 2) + Math.max(slop, 0);
+		float distanceX = Math.abs(x - getXCoordinate(indicator, position) + (isHorizontal ? windowShift : 0));
+		float distanceY = Math.abs(y - getYCoordinate(indicator, position) + (isHorizontal ? 0 : windowShift));
+
+		if (distanceX <= bound && distanceY <= bound) {
+			return position;
+		}
+
+		return -1;
+	}
+
 	private static int getFitPosition(@NonNull Indicator indicator, float lengthCoordinate, float heightCoordinate) {
 		int count = indicator.getCount();
+		int step = getStep(indicator);
+		int height = indicator.getOrientation() == Orientation.HORIZONTAL ? indicator.getHeight() : indicator.getWidth();
+
+		boolean fitHeight = heightCoordinate >= 0 && heightCoordinate <= height;
+		if (count <= 0 || step <= 0 || !fitHeight) {
+			return -1;
+		}
+
+		//Each indicator owns a cell of step length centered on it, so first cell starts half of padding before 0
+		float cellCoordinate = lengthCoordinate + getWindowShift(indicator) + indicator.getPadding() / 2f;
+		if (cellCoordinate < 0) {
+			return -1;
+		}
+
+		int position = (int) (cellCoordinate / step);
+		if (position < getFirstVisiblePosition(indicator) || position > getLastVisiblePosition(indicator)) {
+			return -1;
+		}
+
+		return position;
+	}
+
+	/**
+	 * Return true if indicator displays only a window of {@link Indicator#getMaxVisibleCount()} indicators.
+	 */
+	public static boolean isWindowed(@NonNull Indicator indicator) {
+		int maxVisibleCount = indicator.getMaxVisibleCount();
+		return maxVisibleCount > 0 && indicator.getCount() > maxVisibleCount;
+	}
+
+	/**
+	 * Return number of indicators view is measured for.
+	 */
+	public static int getVisibleCount(@NonNull Indicator indicator) {
+		if (isWindowed(indicator)) {
+			return indicator.getMaxVisibleCount();
+		} else {
+			return indicator.getCount();
+		}
+	}
+
+	/**
+	 * Return window offset which keeps specified position visible and away from window edges,
+	 * moving current window as little as possible.
+	 *
+	 * @param indicator indicator to calculate offset for.
+	 * @param position  position to keep visible, could be fractional while pager is scrolled.
+	 * @return position of first visible indicator.
+	 */
+	public static float getWindowOffset(@NonNull Indicator indicator, float position) {
+		if (!isWindowed(indicator)) {
+			return 0;
+		}
+
+		int visibleCount = indicator.getMaxVisibleCount();
+		int margin = visibleCount > 2 ? 1 : 0;
+		float offset = indicator.getWindowOffset();
+
+		if (position < offset + margin) {
+			offset = position - margin;
+
+		} else if (position > offset + visibleCount - 1 - margin) {
+			offset = position - (visibleCount - 1 - margin);
+		}
+
+		float maxOffset = indicator.getCount() - visibleCount;
+		return Math.max(0, Math.min(offset, maxOffset));
+	}
+
+	/**
+	 * Return distance in px window of visible indicators is scrolled by along orientation axis.
+	 */
+	public static int getWindowShift(@NonNull Indicator indicator) {
+		if (!isWindowed(indicator)) {
+			return 0;
+		}
+
+		return Math.round(indicator.getWindowOffset() * getStep(indicator));
+	}
+
+	public static int getFirstVisiblePosition(@NonNull Indicator indicator) {
+		if (!isWindowed(indicator)) {
+			return 0;
+		}
+
+		return Math.max(0, (int) Math.floor(indicator.getWindowOffset()));
+	}
+
+	public static int getLastVisiblePosition(@NonNull Indicator indicator) {
+		int lastPosition = indicator.getCount() - 1;
+		if (!isWindowed(indicator)) {
+			return lastPosition;
+		}
+
+		float offset = indicator.getWindowOffset() + indicator.getMaxVisibleCount() - 1;
+		return Math.min(lastPosition, (int) Math.ceil(offset));
+	}
+
+	/**
+	 * Return scale of indicator radius. Indicators at window edges are shrunk if there are
+	 * more indicators beyond that edge, and shrink to nothing while they are scrolled out of window.
+	 */
+	public static float getRadiusScale(@NonNull Indicator indicator, int position) {
+		if (!isWindowed(indicator)) {
+			return 1;
+		}
+
+		float offset = indicator.getWindowOffset();
+		float maxOffset = indicator.getCount() - indicator.getMaxVisibleCount();
+
+		float startDistance = position - offset;
+		float endDistance = offset + indicator.getMaxVisibleCount() - 1 - position;
+
+		//Edges are shrunk gradually, as window approaches first or last indicator
+		float startScale = getEdgeScale(startDistance, Math.min(offset, 1));
+		float endScale = getEdgeScale(endDistance, Math.min(maxOffset - offset, 1));
+		return Math.min(startScale, endScale);
+	}
+
+	private static float getEdgeScale(float distance, float weight) {
+		float scale;
+		if (distance >= 1) {
+			scale = 1;
+		} else if (distance >= 0) {
+			scale = EDGE_RADIUS_SCALE + (1 - EDGE_RADIUS_SCALE) * distance;
+		} else {
+			scale = Math.max(0, EDGE_RADIUS_SCALE * (1 + distance));
+		}
+
+		return 1 - (1 - scale) * Math.max(weight, 0);
+	}
+
+	/**
+	 * Return distance between centers of two neighbour indicators.
+	 */
+	public static int getStep(@NonNull Indicator indicator) {
 		int radius = indicator.getRadius();
 		int stroke = indicator.getStroke();
 		int padding = indicator.getPadding();
 
-		int height = indicator.getOrientation() == Orientation.HORIZONTAL ? indicator.getHeight() : indicator.getWidth();
-		int length = 0;
+		return (radius * 2) + padding + (stroke / 2) * 2;
+	}
 
-		for (int i = 0; i < count; i++) {
-			int indicatorPadding = i > 0 ? padding : padding / 2;
-			int startValue = length;
+	private static int getHorizontalCoordinate(@NonNull Indicator indicator, int position) {
+		if (isWindowed(indicator)) {
+			//Avoid building table for all indicators, when only a window of them is displayed
+			int firstCoordinate = indicator.getRadius() + (indicator.getStroke() / 2);
+			return firstCoordinate + position * getStep(indicator);
+		}
 
-			length += radius * 2 + (stroke / 2) + indicatorPadding;
-			int endValue = length;
+		int[] coordinates = getCoordinates(indicator);
+		int lastIndex = Math.max(indicator.getCount(), 0);
 
-			boolean fitLength = lengthCoordinate >= startValue && lengthCoordinate <= endValue;
-			boolean fitHeight = heightCoordinate >= 0 && heightCoordinate <= height;
+		if (position < 0 || position >= lastIndex) {
+			return coordinates[lastIndex];
+		}
+
+		return coordinates[position];
+	}
 
-			if (fitLength && fitHeight) {
-				return i;
-			}
+	@NonNull
+	private static int[] getCoordinates(@NonNull Indicator indicator) {
+		int[] coordinates = indicator.getCoordinates();
+		if (coordinates == null) {
+			coordinates = createCoordinates(indicator, indicator.getCoordinatesBuffer());
+			indicator.setCoordinates(coordinates);
 		}
 
-		return -1;
+		return coordinates;
 	}
 
-	private static int getHorizontalCoordinate(@NonNull Indicator indicator, int position) {
-		int count = indicator.getCount();
+	/**
+	 * Fill table of coordinates, reusing array of previous table if it is big enough.
+	 * Item at count index holds coordinate used for positions out of range.
+	 */
+	@NonNull
+	private static int[] createCoordinates(@NonNull Indicator indicator, @Nullable int[] buffer) {
+		int count = Math.max(indicator.getCount(), 0);
 		int radius = indicator.getRadius();
 		int stroke = indicator.getStroke();
 		int padding = indicator.getPadding();
 
+		int[] coordinates = buffer != null && buffer.length >= count + 1 ? buffer : new int[count + 1];
 		int coordinate = 0;
+
 		for (int i = 0; i < count; i++) {
 			coordinate += radius + (stroke / 2);
-
-			if (position == i) {
-				return coordinate;
-			}
-
+			coordinates[i] = coordinate;
 			coordinate += radius + padding + (stroke / 2);
 		}
 
@@ -123,7 +327,8 @@ public class CoordinatesUtils {
 			coordinate += radius * 2;
 		}
 
-		return coordinate;
+		coordinates[count] = coordinate;
+		return coordinates;
 	}
 
 	private static int getVerticalCoordinate(@NonNull Indicator indicator) {
@@ -139,7 +344,21 @@ public class CoordinatesUtils {
 		return coordinate;
 	}
 
-	public static Pair<Integer, Float> getProgress(@NonNull Indicator indicator, int position, float positionOffset, boolean isRtl) {
+	/**
+	 * Calculate selecting position and progress for current pager scroll state.
+	 * Result is written into provided holder, so no objects are allocated per scroll frame.
+	 *
+	 * @param result holder to write selecting position and progress into.
+	 * @return the same result holder.
+	 */
+	@NonNull
+	public static SelectingProgress getProgress(
+			@NonNull Indicator indicator,
+			int position,
+			float positionOffset,
+			boolean isRtl,
+			@NonNull SelectingProgress result) {
+
 		int count = indicator.getCount();
 		int selectedPosition = indicator.getSelectedPosition();
 
@@ -188,6 +407,8 @@ public class CoordinatesUtils {
 			selectingProgress = 0;
 		}
 
-		return new Pair<>(selectingPosition, selectingProgress);
+		result.setPosition(selectingPosition);
+		result.setProgress(selectingProgress);
+		return result;
 	}
 }
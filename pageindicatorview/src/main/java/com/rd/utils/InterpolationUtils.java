@@ -0,0 +1,121 @@
+package com.rd.utils;
+
+/**
+ * Closed-form equivalents of interpolator and evaluators used by animations,
+ * so interactive animation values can be computed directly from progress.
+ */
+public class InterpolationUtils {
+
+    private static final double GAMMA = 2.2;
+    private static final int COLOR_STEPS_SHIFT = 16;
+    private static final int COLOR_STEPS = 1 << COLOR_STEPS_SHIFT;
+
+    /**
+     * Same curve as {@link android.view.animation.AccelerateDecelerateInterpolator}.
+     *
+     * @param fraction value in range [0 - 1].
+     * @return interpolated fraction.
+     */
+    public static float interpolate(float fraction) {
+        return (float) (Math.cos((fraction + 1) * Math.PI) / 2.0f) + 0.5f;
+    }
+
+    /**
+     * Return linear fraction of a part of animation which starts with delay and lasts for duration,
+     * where progress, delay and duration are relative to the whole animation.
+     *
+     * @param progress progress of the whole animation in range [0 - 1].
+     * @param delay    start of the part in range [0 - 1].
+     * @param duration length of the part in range (0 - 1].
+     * @return fraction of the part in range [0 - 1].
+     */
+    public static float fraction(float progress, float delay, float duration) {
+        float fraction = (progress - delay) / duration;
+
+        if (fraction < 0) {
+            fraction = 0;
+
+        } else if (fraction > 1) {
+            fraction = 1;
+        }
+
+        return fraction;
+    }
+
+    /**
+     * Same as {@link android.animation.IntEvaluator}, without boxing.
+     */
+    public static int evaluate(float fraction, int startValue, int endValue) {
+        return (int) (startValue + fraction * (endValue - startValue));
+    }
+
+    /**
+     * Same as {@link android.animation.ArgbEvaluator}, without boxing and with integer channel math.
+     * Fraction is quantized to 1/65536 steps, which is below what a color channel can show.
+     *
+     * @param gammaCorrected true to blend in linear color space, as platform evaluator does since Android O.
+     */
+    public static int evaluateColor(float fraction, int startColor, int endColor, boolean gammaCorrected) {
+        //Overshooting interpolators would push channels out of range
+        int step = Math.round(Math.max(0, Math.min(fraction, 1)) * COLOR_STEPS);
+        if (step == 0 || startColor == endColor) {
+            return startColor;
+
+        } else if (step == COLOR_STEPS) {
+            return endColor;
+        }
+
+        if (gammaCorrected) {
+            return evaluateColorGamma(step, startColor, endColor);
+        } else {
+            return evaluateColorLinear(step, startColor, endColor);
+        }
+    }
+
+    private static int evaluateColorLinear(int step, int startColor, int endColor) {
+        int a = blend(step, (startColor >> 24) & 0xff, (endColor >> 24) & 0xff);
+        int r = blend(step, (startColor >> 16) & 0xff, (endColor >> 16) & 0xff);
+        int g = blend(step, (startColor >> 8) & 0xff, (endColor >> 8) & 0xff);
+        int b = blend(step, startColor & 0xff, endColor & 0xff);
+
+        return a << 24 | r << 16 | g << 8 | b;
+    }
+
+    private static int evaluateColorGamma(int step, int startColor, int endColor) {
+        int[] toLinear = GammaTables.TO_LINEAR;
+        byte[] toGamma = GammaTables.TO_GAMMA;
+
+        int a = blend(step, (startColor >> 24) & 0xff, (endColor >> 24) & 0xff);
+        int r = toGamma[blend(step, toLinear[(startColor >> 16) & 0xff], toLinear[(endColor >> 16) & 0xff])] & 0xff;
+        int g = toGamma[blend(step, toLinear[(startColor >> 8) & 0xff], toLinear[(endColor >> 8) & 0xff])] & 0xff;
+        int b = toGamma[blend(step, toLinear[startColor & 0xff], toLinear[endColor & 0xff])] & 0xff;
+
+        return a << 24 | r << 16 | g << 8 | b;
+    }
+
+    private static int blend(int step, int start, int end) {
+        return start + ((end - start) * step >> COLOR_STEPS_SHIFT);
+    }
+
+    /**
+     * Conversion tables between 8 bit gamma encoded channels and 14 bit linear ones,
+     * built on first use of gamma corrected blending.
+     */
+    private static class GammaTables {
+
+        private static final int LINEAR_MAX = (1 << 14) - 1;
+
+        static final int[] TO_LINEAR = new int[256];
+        static final byte[] TO_GAMMA = new byte[LINEAR_MAX + 1];
+
+        static {
+            for (int i = 0; i < TO_LINEAR.length; i++) {
+                TO_LINEAR[i] = (int) Math.round(Math.pow(i / 255.0, GAMMA) * LINEAR_MAX);
+            }
+
+            for (int i = 0; i < TO_GAMMA.length; i++) {
+                TO_GAMMA[i] = (byte) Math.round(Math.pow(i / (double) LINEAR_MAX, 1.0 / GAMMA) * 255);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.rd.utils;
+
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.core.view.ViewCompat;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.rd.draw.data.SelectingProgress;
+
+public class RecyclerViewUtils {
+
+    /**
+     * Get scroll position of list laid out by {@link LinearLayoutManager}, the same way as ViewPager reports it:
+     * position of item at list start, counting items scrolled into padding, and its offset in range [0 - 1)
+     * scrolled out of list start.
+     * Reversed and right-to-left layouts are taken into account, so position grows the same way as adapter position.
+     * Result is written into provided holder, so no objects are allocated per scroll frame.
+     *
+     * @param result holder to write position and offset into.
+     * @return true if result is set, false if list has no {@link LinearLayoutManager} or visible items.
+     */
+    public static boolean getScrollPosition(@NonNull RecyclerView recyclerView, @NonNull SelectingProgress result) {
+        RecyclerView.LayoutManager layoutManager = recyclerView.getLayoutManager();
+        if (!(layoutManager instanceof LinearLayoutManager)) {
+            return false;
+        }
+
+        LinearLayoutManager manager = (LinearLayoutManager) layoutManager;
+        int position = manager.findFirstVisibleItemPosition();
+        View view = position != RecyclerView.NO_POSITION ? manager.findViewByPosition(position) : null;
+        if (view == null) {
+            return false;
+        }
+
+        boolean isHorizontal = manager.getOrientation() == LinearLayoutManager.HORIZONTAL;
+        boolean isRtl = isHorizontal && ViewCompat.getLayoutDirection(recyclerView) == ViewCompat.LAYOUT_DIRECTION_RTL;
+        boolean isReversed = manager.getReverseLayout() != isRtl;
+
+        int size;
+        int start;
+        int listStart;
+        int listEnd;
+
+        if (isHorizontal) {
+            size = manager.getDecoratedMeasuredWidth(view);
+            start = manager.getDecoratedLeft(view);
+            listStart = manager.getPaddingLeft();
+            listEnd = manager.getWidth() - manager.getPaddingRight();
+
+        } else {
+            size = manager.getDecoratedMeasuredHeight(view);
+            start = manager.getDecoratedTop(view);
+            listStart = manager.getPaddingTop();
+            listEnd = manager.getHeight() - manager.getPaddingBottom();
+        }
+
+        if (size <= 0) {
+            return false;
+        }
+
+        int scrolled = isReversed ? (start + size) - listEnd : listStart - start;
+        float offset;
+
+        if (scrolled <= 0) {
+            offset = 0;
+
+        } else {
+            //With clipToPadding disabled first visible items can be scrolled into padding as a whole,
+            //so page nearest to list start and its offset are counted from them
+            position += scrolled / size;
+            offset = (float) (scrolled % size) / size;
+        }
+
+        int lastPosition = manager.getItemCount() - 1;
+        if (position > lastPosition) {
+            position = Math.max(lastPosition, 0);
+            offset = 0;
+        }
+
+        result.setPosition(position);
+        result.setProgress(offset);
+        return true;
+    }
+}
@@ -0,0 +1,187 @@
+package com.rd;
+
+import android.content.Context;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+
+import com.rd.animation.type.AnimationType;
+import com.rd.animation.type.BaseAnimation;
+import com.rd.animation.type.WindowAnimation;
+import com.rd.draw.drawer.type.BasicDrawer;
+import com.rd.test.AllocationCounter;
+import com.rd.test.FakeFrameSource;
+import com.rd.test.Fields;
+import com.rd.test.RecordingCanvas;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Memory benchmark of 100 indicators, e.g. a list with an indicator in every item. For every animation type
+ * indicators are drawn and animated once, and footprint per indicator is written into a JSON report
+ * in directory of {@code memory.reportDir} system property. Retained size is measured with garbage
+ * collected heap, so it is an estimate, while allocated size is counted exactly.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class IndicatorFootprintTest {
+
+    private static final int INDICATOR_COUNT = 100;
+    private static final int PAGE_COUNT = 5;
+    private static final int MAX_FRAMES = 100;
+    private static final int GC_COUNT = 5;
+
+    private static final String REPORT_DIR_PROPERTY = "memory.reportDir";
+    private static final String DEFAULT_REPORT_DIR = "build/reports/memory";
+
+    private FakeFrameSource frameSource;
+
+    @Before
+    public void setUp() {
+        frameSource = FakeFrameSource.install();
+    }
+
+    @Test
+    public void footprintOfHundredIndicators() throws Exception {
+        //Classes, shared tables and drawers of every type are loaded before anything is measured
+        for (AnimationType type : AnimationType.values()) {
+            createAnimatedViews(type);
+        }
+
+        JSONArray results = new JSONArray();
+        for (AnimationType type : AnimationType.values()) {
+            results.put(measure(type));
+        }
+
+        JSONObject report = new JSONObject();
+        report.put("indicators", INDICATOR_COUNT);
+        report.put("pageCount", PAGE_COUNT);
+        report.put("layerCacheEnabled", false);
+        report.put("results", results);
+        writeReport(report);
+    }
+
+    /**
+     * Measure footprint of indicators of type. Views are created and released within this call,
+     * so they don't add to heap measured for the next type.
+     */
+    @NonNull
+    private JSONObject measure(@NonNull AnimationType type) throws Exception {
+        long heapBefore = getUsedHeap();
+        long allocatedBefore = AllocationCounter.getAllocatedBytes();
+
+        List<PageIndicatorView> views = createAnimatedViews(type);
+
+        long allocatedAfter = AllocationCounter.getAllocatedBytes();
+        long heapAfter = getUsedHeap();
+
+        //Views are used after heap is measured, so they can't be collected before
+        for (PageIndicatorView view : views) {
+            assertOnlyActiveTypeIsKept(type, view);
+        }
+        assertEquals(INDICATOR_COUNT, views.size());
+
+        JSONObject result = new JSONObject();
+        result.put("animationType", type.name());
+        result.put("retainedBytesPerIndicator", (heapAfter - heapBefore) / INDICATOR_COUNT);
+        result.put("allocatedBytesPerIndicator", allocatedBefore >= 0 ? (allocatedAfter - allocatedBefore) / INDICATOR_COUNT : -1);
+        return result;
+    }
+
+    @NonNull
+    private List<PageIndicatorView> createAnimatedViews(@NonNull AnimationType type) {
+        Context context = ApplicationProvider.getApplicationContext();
+        int unspecified = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+        List<PageIndicatorView> views = new ArrayList<>(INDICATOR_COUNT);
+
+        for (int i = 0; i < INDICATOR_COUNT; i++) {
+            PageIndicatorView view = new PageIndicatorView(context);
+            //Layer is a bitmap of pixels, which are not allocated on JVM heap on a device
+            view.setLayerCacheEnabled(false);
+            view.edit()
+                    .setCount(PAGE_COUNT)
+                    .setAnimationType(type)
+                    .apply();
+
+            view.measure(unspecified, unspecified);
+            view.layout(0, 0, view.getMeasuredWidth(), view.getMeasuredHeight());
+
+            RecordingCanvas canvas = new RecordingCanvas(view.getMeasuredWidth(), view.getMeasuredHeight());
+            view.onDraw(canvas);
+
+            view.setSelection(1);
+            for (int frame = 0; frame < MAX_FRAMES && frameSource.nextFrame(); frame++) {
+                view.onDraw(canvas);
+            }
+
+            views.add(view);
+        }
+
+        return views;
+    }
+
+    private void assertOnlyActiveTypeIsKept(@NonNull AnimationType type, @NonNull PageIndicatorView view) throws ClassNotFoundException {
+        IndicatorManager manager = (IndicatorManager) Fields.get(view, "manager");
+        Object drawController = Fields.get(manager.drawer(), "drawController");
+        Object drawer = Fields.get(drawController, "drawer");
+        Object animationController = Fields.get(manager.animate(), "animationController");
+        Object valueController = Fields.get(animationController, "valueController");
+
+        //Basic animation type is drawn by basic drawer only
+        int expected = type == AnimationType.NONE ? 0 : 1;
+
+        //Base drawer is package-private, so it's looked up by name
+        Class<?> baseDrawer = Class.forName("com.rd.draw.drawer.type.BaseDrawer");
+        int drawers = Fields.countNonNull(drawer, baseDrawer, BasicDrawer.class);
+        int animations = Fields.countNonNull(valueController, BaseAnimation.class, WindowAnimation.class);
+
+        assertTrue(type + " keeps " + drawers + " animation drawers", drawers <= expected);
+        assertTrue(type + " keeps " + animations + " animations", animations <= expected);
+    }
+
+    /**
+     * Return least used heap of a few garbage collections, as a single one may not collect everything.
+     */
+    private static long getUsedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < GC_COUNT; i++) {
+            System.gc();
+            Thread.sleep(20);
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+
+        return used;
+    }
+
+    private static void writeReport(@NonNull JSONObject report) throws Exception {
+        File dir = new File(System.getProperty(REPORT_DIR_PROPERTY, DEFAULT_REPORT_DIR));
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Can't create report directory " + dir);
+        }
+
+        OutputStream stream = new FileOutputStream(new File(dir, "footprint.json"));
+        try {
+            stream.write(report.toString(2).getBytes("UTF-8"));
+        } finally {
+            stream.close();
+        }
+    }
+}
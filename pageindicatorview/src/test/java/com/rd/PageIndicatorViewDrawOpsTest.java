@@ -0,0 +1,159 @@
+package com.rd;
+
+import android.content.Context;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+
+import com.rd.animation.type.AnimationType;
+import com.rd.draw.data.Orientation;
+import com.rd.test.AllocationCounter;
+import com.rd.test.DrawOpsReport;
+import com.rd.test.FakeFrameSource;
+import com.rd.test.RecordingCanvas;
+
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Profiles {@link PageIndicatorView#onDraw} of every animation type, orientation and count with a recording canvas.
+ * Each configuration is scrolled from first page to the second one with interactive animation and then
+ * selected back with basic animation, and draw calls, paint changes and allocations of every frame
+ * are written into a report, see {@link DrawOpsReport}. Test fails if max number of draw calls or paint changes
+ * of any configuration exceeds its baseline.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class PageIndicatorViewDrawOpsTest {
+
+    private static final int[] COUNTS = {3, 10, 100};
+    private static final int INTERACTIVE_FRAMES = 10;
+    private static final int MAX_BASIC_FRAMES = 120;
+
+    private static final String PHASE_INTERACTIVE = "interactive";
+    private static final String PHASE_BASIC = "basic";
+
+    private FakeFrameSource frameSource;
+
+    @Before
+    public void setUp() {
+        frameSource = FakeFrameSource.install();
+    }
+
+    @Test
+    public void profileAllAnimationTypes() throws Exception {
+        List<DrawOpsReport> reports = new ArrayList<>();
+        List<String> regressions = new ArrayList<>();
+
+        for (AnimationType type : AnimationType.values()) {
+            for (Orientation orientation : Orientation.values()) {
+                for (int count : COUNTS) {
+                    DrawOpsReport report = profile(type, orientation, count);
+                    report.write();
+                    reports.add(report);
+
+                    assertTrue(report.getName() + " has no frames with draw calls", report.getMaxDrawOps() > 0);
+
+                    String regression = report.compareWithBaseline();
+                    if (regression != null) {
+                        regressions.add(regression);
+                    }
+                }
+            }
+        }
+
+        DrawOpsReport.writeBaseline(reports);
+
+        if (!regressions.isEmpty()) {
+            fail("Draw calls regressed against baseline:\n" + join(regressions));
+        }
+    }
+
+    @NonNull
+    private DrawOpsReport profile(@NonNull AnimationType type, @NonNull Orientation orientation, int count) throws Exception {
+        PageIndicatorView view = createView(type, orientation, count);
+        RecordingCanvas canvas = new RecordingCanvas(view.getMeasuredWidth(), view.getMeasuredHeight());
+
+        JSONObject config = new JSONObject();
+        config.put("animationType", type.name());
+        config.put("orientation", orientation.name());
+        config.put("count", count);
+        config.put("width", view.getMeasuredWidth());
+        config.put("height", view.getMeasuredHeight());
+
+        String name = type.name().toLowerCase() + "_" + orientation.name().toLowerCase() + "_" + count;
+        DrawOpsReport report = new DrawOpsReport(name, config);
+
+        //Drawers and layer are created by first frame, so it is not recorded
+        draw(view, canvas);
+
+        for (int i = 0; i <= INTERACTIVE_FRAMES; i++) {
+            view.setProgress(1, (float) i / INTERACTIVE_FRAMES);
+            long allocatedBytes = draw(view, canvas);
+            report.addFrame(PHASE_INTERACTIVE, canvas, allocatedBytes);
+        }
+
+        view.setInteractiveAnimation(false);
+        view.setSelection(0);
+
+        int frames = 0;
+        do {
+            long allocatedBytes = draw(view, canvas);
+            report.addFrame(PHASE_BASIC, canvas, allocatedBytes);
+            frames++;
+        } while (frames < MAX_BASIC_FRAMES && frameSource.nextFrame());
+
+        return report;
+    }
+
+    @NonNull
+    private PageIndicatorView createView(@NonNull AnimationType type, @NonNull Orientation orientation, int count) {
+        Context context = ApplicationProvider.getApplicationContext();
+        PageIndicatorView view = new PageIndicatorView(context);
+        view.edit()
+                .setCount(count)
+                .setAnimationType(type)
+                .setOrientation(orientation)
+                .setInteractiveAnimation(true)
+                .apply();
+
+        int unspecified = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+        view.measure(unspecified, unspecified);
+        view.layout(0, 0, view.getMeasuredWidth(), view.getMeasuredHeight());
+        return view;
+    }
+
+    /**
+     * @return bytes allocated while view was drawn or -1 if they are not counted.
+     */
+    private long draw(@NonNull PageIndicatorView view, @NonNull RecordingCanvas canvas) {
+        canvas.reset();
+
+        long before = AllocationCounter.getAllocatedBytes();
+        view.onDraw(canvas);
+        long after = AllocationCounter.getAllocatedBytes();
+
+        return before >= 0 ? after - before : -1;
+    }
+
+    @NonNull
+    private static String join(@NonNull List<String> lines) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line).append('\n');
+        }
+
+        return builder.toString();
+    }
+}
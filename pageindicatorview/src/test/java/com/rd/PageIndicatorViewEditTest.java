@@ -0,0 +1,76 @@
+package com.rd;
+
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+
+import com.rd.test.FakeFrameSource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class PageIndicatorViewEditTest {
+
+    private PageIndicatorView view;
+
+    @Before
+    public void setUp() {
+        FakeFrameSource.install();
+
+        view = new PageIndicatorView(ApplicationProvider.getApplicationContext());
+        layout(view);
+    }
+
+    @Test
+    public void layoutIsRequestedOnceBatchIsApplied() {
+        PageIndicatorView.Editor editor = view.edit()
+                .setCount(7)
+                .setRadius(10);
+
+        assertFalse(view.isLayoutRequested());
+
+        editor.apply();
+        assertTrue(view.isLayoutRequested());
+    }
+
+    @Test
+    public void openBatchIsAppliedOnBind() {
+        view.edit().setCount(7);
+        assertFalse(view.isLayoutRequested());
+
+        view.bind(new IndicatorState(9, 0));
+        assertTrue(view.isLayoutRequested());
+    }
+
+    @Test
+    public void staleEditorDoesNotApplyNewBatch() {
+        PageIndicatorView.Editor staleEditor = view.edit();
+        view.bind(new IndicatorState(7, 0));
+        layout(view);
+
+        PageIndicatorView.Editor editor = view.edit();
+        staleEditor.apply();
+
+        //Batch of new editor is still open, so layout is postponed until it is applied
+        view.setCount(9);
+        assertFalse(view.isLayoutRequested());
+
+        editor.apply();
+        assertTrue(view.isLayoutRequested());
+    }
+
+    private static void layout(@NonNull PageIndicatorView view) {
+        int unspecified = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+        view.measure(unspecified, unspecified);
+        view.layout(0, 0, view.getMeasuredWidth(), view.getMeasuredHeight());
+    }
+}
@@ -0,0 +1,132 @@
+package com.rd;
+
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+
+import com.rd.animation.clock.FrameClock;
+import com.rd.animation.type.AnimationType;
+import com.rd.draw.data.Indicator;
+import com.rd.draw.data.IndicatorStyle;
+import com.rd.test.AllocationCounter;
+import com.rd.test.FakeFrameSource;
+import com.rd.test.Fields;
+import com.rd.test.RecordingCanvas;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Selects positions of {@link PageIndicatorView} the way lists and pagers do, checking that neither
+ * selection with basic animation nor selection without animation allocates or changes style of indicator.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class PageIndicatorViewSelectionTest {
+
+    private static final int COUNT = 10;
+    private static final int FRAMES_PER_SELECTION = 5;
+    private static final int MAX_FRAMES = 100;
+
+    private FakeFrameSource frameSource;
+
+    @Before
+    public void setUp() {
+        frameSource = FakeFrameSource.install();
+    }
+
+    @Test
+    public void setSelectedKeepsStyleAndCoordinates() {
+        for (AnimationType type : AnimationType.values()) {
+            PageIndicatorView view = createView(type);
+            Indicator indicator = getIndicator(view);
+
+            IndicatorStyle style = indicator.getStyle();
+            int[] coordinates = indicator.getCoordinates();
+
+            frameSource.runFrames(MAX_FRAMES);
+            view.setSelected(3);
+
+            assertSame(type + " style is replaced", style, indicator.getStyle());
+            assertSame(type + " coordinates are rebuilt", coordinates, indicator.getCoordinates());
+            assertEquals(type, indicator.getAnimationType());
+            assertEquals(3, indicator.getSelectedPosition());
+            assertFalse(type + " is animated", FrameClock.getInstance().isRunning());
+        }
+    }
+
+    @Test
+    public void setSelectedDoesNotAllocate() {
+        assumeTrue(AllocationCounter.isSupported());
+
+        for (AnimationType type : AnimationType.values()) {
+            final PageIndicatorView view = createView(type);
+
+            double bytesPerSelection = AllocationCounter.measure(1000, 1000, new AllocationCounter.Action() {
+                @Override
+                public void run(int iteration) {
+                    view.setSelected(iteration % COUNT);
+                }
+            });
+
+            assertTrue(type + " setSelected allocates " + bytesPerSelection + " bytes", bytesPerSelection < 1);
+        }
+    }
+
+    @Test
+    public void setSelectionDoesNotAllocate() {
+        assumeTrue(AllocationCounter.isSupported());
+
+        for (AnimationType type : AnimationType.values()) {
+            final PageIndicatorView view = createView(type);
+
+            double bytesPerSelection = AllocationCounter.measure(1000, 1000, new AllocationCounter.Action() {
+                @Override
+                public void run(int iteration) {
+                    //Selection changes while previous animation is still running, as it does on quick swipes
+                    view.setSelection(iteration % COUNT);
+                    for (int i = 0; i < FRAMES_PER_SELECTION; i++) {
+                        frameSource.nextFrame();
+                    }
+                }
+            });
+
+            assertTrue(type + " setSelection allocates " + bytesPerSelection + " bytes", bytesPerSelection < 1);
+        }
+    }
+
+    /**
+     * Create measured view, which is drawn once, so its drawers and coordinates are created.
+     */
+    @NonNull
+    private PageIndicatorView createView(@NonNull AnimationType type) {
+        PageIndicatorView view = new PageIndicatorView(ApplicationProvider.getApplicationContext());
+        view.setLayerCacheEnabled(false);
+        view.edit()
+                .setCount(COUNT)
+                .setAnimationType(type)
+                .apply();
+
+        int unspecified = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+        view.measure(unspecified, unspecified);
+        view.layout(0, 0, view.getMeasuredWidth(), view.getMeasuredHeight());
+        view.onDraw(new RecordingCanvas(view.getMeasuredWidth(), view.getMeasuredHeight()));
+        return view;
+    }
+
+    @NonNull
+    private static Indicator getIndicator(@NonNull PageIndicatorView view) {
+        IndicatorManager manager = (IndicatorManager) Fields.get(view, "manager");
+        return manager.indicator();
+    }
+}
@@ -0,0 +1,105 @@
+package com.rd.animation;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.rd.animation.clock.FrameClock;
+import com.rd.animation.controller.ValueController;
+import com.rd.animation.data.Value;
+import com.rd.animation.type.AnimationType;
+import com.rd.draw.data.Indicator;
+import com.rd.test.AllocationCounter;
+import com.rd.test.FakeFrameSource;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class AnimationManagerTest {
+
+    private static final int COUNT = 10;
+    private static final int FRAMES_PER_SELECTION = 5;
+    private static final int MAX_FRAMES = 100;
+
+    private FakeFrameSource frameSource;
+    private Value lastValue;
+
+    @Before
+    public void setUp() {
+        frameSource = FakeFrameSource.install();
+    }
+
+    @Test
+    public void basicAnimationFinishes() {
+        for (AnimationType type : AnimationType.values()) {
+            Indicator indicator = createIndicator(type);
+            AnimationManager manager = createManager(indicator);
+
+            lastValue = null;
+            select(indicator, manager, 3);
+            frameSource.runFrames(MAX_FRAMES);
+
+            assertFalse(type + " is still running", FrameClock.getInstance().isRunning());
+            if (type != AnimationType.NONE) {
+                assertNotNull(type + " has no value", lastValue);
+            }
+        }
+    }
+
+    @Test
+    public void repeatedSelectionDoesNotAllocate() {
+        assumeTrue(AllocationCounter.isSupported());
+
+        //Worm, thin worm and drop used to rebuild their animators on every selection
+        for (AnimationType type : AnimationType.values()) {
+            final Indicator indicator = createIndicator(type);
+            final AnimationManager manager = createManager(indicator);
+
+            double bytesPerSelection = AllocationCounter.measure(1000, 1000, new AllocationCounter.Action() {
+                @Override
+                public void run(int iteration) {
+                    //Selection changes while previous animation is still running, as it does on quick swipes
+                    select(indicator, manager, iteration % COUNT);
+                    for (int i = 0; i < FRAMES_PER_SELECTION; i++) {
+                        frameSource.nextFrame();
+                    }
+                }
+            });
+
+            assertTrue(type + " selection allocates " + bytesPerSelection + " bytes", bytesPerSelection < 1);
+        }
+    }
+
+    @NonNull
+    private Indicator createIndicator(@NonNull AnimationType type) {
+        Indicator indicator = new Indicator();
+        indicator.setCount(COUNT);
+        indicator.setRadius(18);
+        indicator.setPadding(24);
+        indicator.setScaleFactor(0.7f);
+        indicator.setAnimationDuration(350);
+        indicator.setAnimationType(type);
+        return indicator;
+    }
+
+    @NonNull
+    private AnimationManager createManager(@NonNull Indicator indicator) {
+        return new AnimationManager(indicator, new ValueController.UpdateListener() {
+            @Override
+            public void onValueUpdated(@Nullable Value value) {
+                lastValue = value;
+            }
+        });
+    }
+
+    private void select(@NonNull Indicator indicator, @NonNull AnimationManager manager, int position) {
+        indicator.setLastSelectedPosition(indicator.getSelectedPosition());
+        indicator.setSelectedPosition(position);
+        indicator.setSelectingPosition(position);
+        manager.basic();
+    }
+}
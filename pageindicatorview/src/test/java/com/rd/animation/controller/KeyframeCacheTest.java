@@ -0,0 +1,144 @@
+package com.rd.animation.controller;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.rd.animation.data.Keyframes;
+import com.rd.animation.data.Value;
+import com.rd.animation.data.type.DropAnimationValue;
+import com.rd.animation.data.type.WormAnimationValue;
+import com.rd.animation.type.BaseAnimation;
+import com.rd.animation.type.DropAnimation;
+import com.rd.animation.type.WormAnimation;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class KeyframeCacheTest {
+
+    private static final int RADIUS = 18;
+    private static final int STEP = 60;
+    private static final int FRAME_COUNT = 100;
+
+    //Baked values are interpolated between samples and truncated to int afterwards
+    private static final int TOLERANCE = 1;
+
+    private final KeyframeCache cache = new KeyframeCache(KeyframeCache.DEFAULT_MAX_SIZE, KeyframeCache.DEFAULT_RESOLUTION);
+
+    @Test
+    public void transitionsOfSameDistanceShareKeyframes() {
+        Keyframes keyframes = cache.get(worm(null).with(RADIUS, RADIUS + STEP, RADIUS, true));
+
+        assertSame(keyframes, cache.get(worm(null).with(RADIUS + STEP * 7, RADIUS + STEP * 8, RADIUS, true)));
+        assertNotSame(keyframes, cache.get(worm(null).with(RADIUS + STEP, RADIUS, RADIUS, false)));
+        assertNotSame(keyframes, cache.get(worm(null).with(RADIUS, RADIUS + STEP * 2, RADIUS, true)));
+    }
+
+    @Test
+    public void bakedWormMatchesCalculatedAtAnyPosition() {
+        ValueRecorder baked = new ValueRecorder();
+        ValueRecorder calculated = new ValueRecorder();
+
+        for (int position = 0; position < 50; position += 7) {
+            int from = RADIUS + STEP * position;
+            boolean isRightSide = position % 2 == 0;
+            int to = isRightSide ? from + STEP : from - STEP;
+
+            BaseAnimation bakedAnimation = worm(baked).with(from, to, RADIUS, isRightSide).keyframes(cache);
+            BaseAnimation calculatedAnimation = worm(calculated).with(from, to, RADIUS, isRightSide);
+
+            for (int frame = 0; frame <= FRAME_COUNT; frame++) {
+                float progress = (float) frame / FRAME_COUNT;
+                bakedAnimation.progress(progress);
+                calculatedAnimation.progress(progress);
+
+                WormAnimationValue bakedValue = (WormAnimationValue) baked.value;
+                WormAnimationValue calculatedValue = (WormAnimationValue) calculated.value;
+                assertEquals(calculatedValue.getRectStart(), bakedValue.getRectStart(), TOLERANCE);
+                assertEquals(calculatedValue.getRectEnd(), bakedValue.getRectEnd(), TOLERANCE);
+            }
+        }
+    }
+
+    @Test
+    public void bakedDropMatchesCalculatedAtAnyPosition() {
+        ValueRecorder baked = new ValueRecorder();
+        ValueRecorder calculated = new ValueRecorder();
+
+        for (int position = 0; position < 50; position += 7) {
+            int from = RADIUS + STEP * position;
+            int padding = position;
+
+            BaseAnimation bakedAnimation = drop(baked).with(from, from + STEP, RADIUS * 3 + padding, RADIUS + padding, RADIUS).keyframes(cache);
+            BaseAnimation calculatedAnimation = drop(calculated).with(from, from + STEP, RADIUS * 3 + padding, RADIUS + padding, RADIUS);
+
+            for (int frame = 0; frame <= FRAME_COUNT; frame++) {
+                float progress = (float) frame / FRAME_COUNT;
+                bakedAnimation.progress(progress);
+                calculatedAnimation.progress(progress);
+
+                DropAnimationValue bakedValue = (DropAnimationValue) baked.value;
+                DropAnimationValue calculatedValue = (DropAnimationValue) calculated.value;
+                assertEquals(calculatedValue.getWidth(), bakedValue.getWidth(), TOLERANCE);
+                assertEquals(calculatedValue.getHeight(), bakedValue.getHeight(), TOLERANCE);
+                assertEquals(calculatedValue.getRadius(), bakedValue.getRadius(), TOLERANCE);
+            }
+        }
+    }
+
+    @Test
+    public void keyframesAreKeptWhileKeyIsSame() {
+        CountingCache countingCache = new CountingCache();
+        WormAnimation animation = worm(null);
+
+        //Interactive animation sets parameters of the same transition on each frame
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            animation.with(RADIUS, RADIUS + STEP, RADIUS, true).keyframes(countingCache);
+        }
+        assertEquals(1, countingCache.count);
+
+        animation.with(RADIUS + STEP, RADIUS + STEP * 2, RADIUS, true).keyframes(countingCache);
+        assertEquals(1, countingCache.count);
+
+        animation.with(RADIUS + STEP, RADIUS, RADIUS, false).keyframes(countingCache);
+        assertEquals(2, countingCache.count);
+    }
+
+    @NonNull
+    private static WormAnimation worm(@Nullable ValueRecorder recorder) {
+        return new WormAnimation(recorder != null ? recorder : new ValueRecorder());
+    }
+
+    @NonNull
+    private static DropAnimation drop(@NonNull ValueRecorder recorder) {
+        return new DropAnimation(recorder);
+    }
+
+    private static class ValueRecorder implements ValueController.UpdateListener {
+
+        private Value value;
+
+        @Override
+        public void onValueUpdated(@Nullable Value value) {
+            this.value = value;
+        }
+    }
+
+    private static class CountingCache extends KeyframeCache {
+
+        private int count;
+
+        CountingCache() {
+            super(DEFAULT_MAX_SIZE, DEFAULT_RESOLUTION);
+        }
+
+        @Nullable
+        @Override
+        public synchronized Keyframes get(@NonNull BaseAnimation animation) {
+            count++;
+            return super.get(animation);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.rd.animation.controller;
+
+import com.rd.animation.type.BaseAnimation;
+import com.rd.animation.type.WindowAnimation;
+import com.rd.test.Fields;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class ValueControllerTest {
+
+    @Test
+    public void animationsAreNotCreatedUntilUsed() {
+        ValueController controller = new ValueController(null);
+
+        assertEquals(0, Fields.countNonNull(controller, BaseAnimation.class));
+    }
+
+    @Test
+    public void onlyAnimationOfLastUsedTypeIsKept() {
+        ValueController controller = new ValueController(null);
+        controller.worm();
+        controller.drop();
+
+        assertEquals(1, Fields.countNonNull(controller, BaseAnimation.class));
+        assertNull(Fields.get(controller, "wormAnimation"));
+        assertNotNull(Fields.get(controller, "dropAnimation"));
+    }
+
+    @Test
+    public void windowAnimationIsKeptWithAnimationOfAnyType() {
+        ValueController controller = new ValueController(null);
+        controller.window();
+        controller.color();
+        controller.scale();
+
+        assertNotNull(Fields.get(controller, "windowAnimation"));
+        assertEquals(1, Fields.countNonNull(controller, BaseAnimation.class, WindowAnimation.class));
+    }
+}
@@ -0,0 +1,111 @@
+package com.rd.draw.controller;
+
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.rd.animation.AnimationManager;
+import com.rd.animation.controller.ValueController;
+import com.rd.animation.data.Value;
+import com.rd.animation.type.AnimationType;
+import com.rd.draw.data.Indicator;
+import com.rd.test.FakeFrameSource;
+import com.rd.test.RecordingCanvas;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Counts draw calls of indicators drawn without layer cache, where unselected indicators are batched
+ * into a single {@code drawPoints} call, so number of calls doesn't depend on count.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class DrawControllerTest {
+
+    private static final int SMALL_COUNT = 10;
+    private static final int LARGE_COUNT = 1000;
+
+    @Before
+    public void setUp() {
+        FakeFrameSource.install();
+    }
+
+    @Test
+    public void unselectedIndicatorsAreBatched() {
+        for (AnimationType type : AnimationType.values()) {
+            if (type == AnimationType.FILL) {
+                continue;
+            }
+
+            RecordingCanvas small = draw(type, SMALL_COUNT, false);
+            RecordingCanvas large = draw(type, LARGE_COUNT, false);
+
+            assertEquals(type + " draw calls", small.getTotalCount(), large.getTotalCount());
+            assertEquals(type + " drawPoints calls", 1, large.getCount(RecordingCanvas.Op.POINTS));
+        }
+    }
+
+    @Test
+    public void unselectedIndicatorsAreBatchedWhileAnimated() {
+        for (AnimationType type : AnimationType.values()) {
+            if (type == AnimationType.FILL) {
+                continue;
+            }
+
+            RecordingCanvas small = draw(type, SMALL_COUNT, true);
+            RecordingCanvas large = draw(type, LARGE_COUNT, true);
+
+            assertEquals(type + " draw calls", small.getTotalCount(), large.getTotalCount());
+        }
+    }
+
+    @Test
+    public void strokedIndicatorsAreDrawnOneByOne() {
+        RecordingCanvas canvas = draw(AnimationType.FILL, LARGE_COUNT, false);
+
+        assertEquals(0, canvas.getCount(RecordingCanvas.Op.POINTS));
+        assertEquals(LARGE_COUNT, canvas.getCount(RecordingCanvas.Op.CIRCLE));
+    }
+
+    /**
+     * Draw indicators with first one selected, or halfway selecting second one with interactive animation.
+     */
+    @NonNull
+    private RecordingCanvas draw(@NonNull AnimationType type, int count, boolean isAnimated) {
+        Indicator indicator = new Indicator();
+        indicator.setCount(count);
+        indicator.setRadius(12);
+        indicator.setPadding(16);
+        indicator.setStroke(type == AnimationType.FILL ? 2 : 0);
+        indicator.setAnimationType(type);
+        indicator.setLayerCacheEnabled(false);
+
+        int unspecified = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+        new MeasureController().measureViewSize(indicator, unspecified, unspecified);
+
+        final DrawController controller = new DrawController(indicator);
+        if (isAnimated) {
+            indicator.setInteractiveAnimation(true);
+            indicator.setSelectingPosition(1);
+
+            AnimationManager animationManager = new AnimationManager(indicator, new ValueController.UpdateListener() {
+                @Override
+                public void onValueUpdated(@Nullable Value value) {
+                    controller.updateValue(value);
+                }
+            });
+            animationManager.interactive(0.5f);
+        }
+
+        RecordingCanvas canvas = new RecordingCanvas(indicator.getWidth(), indicator.getHeight());
+        controller.draw(canvas);
+        return canvas;
+    }
+}
@@ -0,0 +1,83 @@
+package com.rd.draw.controller;
+
+import android.view.View;
+
+import com.rd.animation.type.AnimationType;
+import com.rd.draw.data.Indicator;
+import com.rd.draw.data.Orientation;
+import com.rd.test.AllocationCounter;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class MeasureControllerTest {
+
+    private static final int COUNT = 5;
+    private static final int RADIUS = 12;
+    private static final int PADDING = 16;
+
+    private final MeasureController controller = new MeasureController();
+    private Indicator indicator;
+    private int unspecified;
+
+    @Before
+    public void setUp() {
+        indicator = new Indicator();
+        indicator.setCount(COUNT);
+        indicator.setRadius(RADIUS);
+        indicator.setPadding(PADDING);
+
+        unspecified = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+    }
+
+    @Test
+    public void measureHorizontal() {
+        controller.measureViewSize(indicator, unspecified, unspecified);
+
+        assertEquals(COUNT * RADIUS * 2 + (COUNT - 1) * PADDING, indicator.getWidth());
+        assertEquals(RADIUS * 2, indicator.getHeight());
+    }
+
+    @Test
+    public void measureVerticalDrop() {
+        indicator.setOrientation(Orientation.VERTICAL);
+        indicator.setAnimationType(AnimationType.DROP);
+        controller.measureViewSize(indicator, unspecified, unspecified);
+
+        assertEquals(RADIUS * 2 * 2, indicator.getWidth());
+        assertEquals(COUNT * RADIUS * 2 + (COUNT - 1) * PADDING, indicator.getHeight());
+    }
+
+    @Test
+    public void measureAtMostIsLimited() {
+        int atMost = View.MeasureSpec.makeMeasureSpec(50, View.MeasureSpec.AT_MOST);
+        controller.measureViewSize(indicator, atMost, unspecified);
+
+        assertEquals(50, indicator.getWidth());
+    }
+
+    @Test
+    public void measureDoesNotAllocate() {
+        assumeTrue(AllocationCounter.isSupported());
+
+        final int exactly = View.MeasureSpec.makeMeasureSpec(300, View.MeasureSpec.EXACTLY);
+        double bytesPerMeasure = AllocationCounter.measure(10000, 10000, new AllocationCounter.Action() {
+            @Override
+            public void run(int iteration) {
+                int widthSpec = iteration % 2 == 0 ? unspecified : exactly;
+                controller.measureViewSize(indicator, widthSpec, unspecified);
+            }
+        });
+
+        assertTrue("Measure allocates " + bytesPerMeasure + " bytes", bytesPerMeasure < 1);
+    }
+}
@@ -0,0 +1,79 @@
+package com.rd.test;
+
+import androidx.annotation.NonNull;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Counts bytes allocated by current thread, with allocation counter of HotSpot based JVMs.
+ */
+public final class AllocationCounter {
+
+    public interface Action {
+        void run(int iteration);
+    }
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = getThreadBean();
+
+    private AllocationCounter() {
+    }
+
+    /**
+     * Return true if running JVM counts allocations per thread, tests of allocations should be skipped otherwise.
+     */
+    public static boolean isSupported() {
+        return THREAD_BEAN != null;
+    }
+
+    /**
+     * Return number of bytes allocated by current thread since it was started, or -1 if it's not supported.
+     */
+    public static long getAllocatedBytes() {
+        if (THREAD_BEAN == null) {
+            return -1;
+        }
+
+        return THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Run action warm-up number of times, so lazily created objects and JIT don't count, and then
+     * measure allocations of next iterations.
+     *
+     * @return average number of bytes allocated per iteration. Counter itself allocates a few bytes,
+     * so result is below 1 for allocation-free actions measured for hundreds of iterations.
+     */
+    public static double measure(int warmUpIterations, int iterations, @NonNull Action action) {
+        for (int i = 0; i < warmUpIterations; i++) {
+            action.run(i);
+        }
+
+        long before = getAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            action.run(warmUpIterations + i);
+        }
+        long after = getAllocatedBytes();
+
+        return (double) (after - before) / iterations;
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        try {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+                return null;
+            }
+
+            com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+            if (!threadBean.isThreadAllocatedMemorySupported()) {
+                return null;
+            }
+
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+            return threadBean;
+
+        } catch (LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.rd.test;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.List;
+
+/**
+ * Machine-readable report of draw calls, paint changes and allocations of every recorded frame.
+ * Reports are written as JSON files into directory of {@code drawOps.reportDir} system property.
+ * Summary of report is compared with baseline of the same name in {@code draw-ops-baseline.json} test resource,
+ * or with report of the same name in directory of {@code drawOps.baselineDir} system property, if it is set.
+ */
+public class DrawOpsReport {
+
+    private static final String REPORT_DIR_PROPERTY = "drawOps.reportDir";
+    private static final String BASELINE_DIR_PROPERTY = "drawOps.baselineDir";
+    private static final String DEFAULT_REPORT_DIR = "build/reports/draw-ops";
+    private static final String BASELINE_RESOURCE = "draw-ops-baseline.json";
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final String KEY_SUMMARY = "summary";
+    private static final String KEY_MAX_DRAW_OPS = "maxDrawOps";
+    private static final String KEY_MAX_PAINT_CHANGES = "maxPaintChanges";
+    private static final String KEY_MAX_ALLOCATED_BYTES = "maxAllocatedBytes";
+
+    private static JSONObject baselineResource;
+
+    private final String name;
+    private final JSONObject root;
+    private final JSONArray frames = new JSONArray();
+
+    private int maxDrawOps;
+    private int maxPaintChanges;
+    private long maxAllocatedBytes = -1;
+
+    /**
+     * @param name   name of report file, unique for every profiled configuration.
+     * @param config values of profiled configuration, written to report as they are.
+     */
+    public DrawOpsReport(@NonNull String name, @NonNull JSONObject config) throws JSONException {
+        this.name = name;
+        this.root = new JSONObject();
+        root.put("name", name);
+        root.put("config", config);
+        root.put("frames", frames);
+    }
+
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Add frame recorded by canvas.
+     *
+     * @param phase          name of animation phase frame belongs to.
+     * @param allocatedBytes bytes allocated while frame was drawn or -1 if they are not counted.
+     */
+    public void addFrame(@NonNull String phase, @NonNull RecordingCanvas canvas, long allocatedBytes) throws JSONException {
+        JSONObject ops = new JSONObject();
+        for (RecordingCanvas.Op op : RecordingCanvas.Op.values()) {
+            int count = canvas.getCount(op);
+            if (count > 0) {
+                ops.put(op.getMethodName(), count);
+            }
+        }
+
+        int drawOps = canvas.getTotalCount();
+        int paintChanges = canvas.getPaintChanges();
+
+        JSONObject frame = new JSONObject();
+        frame.put("phase", phase);
+        frame.put("index", frames.length());
+        frame.put("drawOps", drawOps);
+        frame.put("ops", ops);
+        frame.put("paintChanges", paintChanges);
+        frame.put("allocatedBytes", allocatedBytes);
+        frames.put(frame);
+
+        maxDrawOps = Math.max(maxDrawOps, drawOps);
+        maxPaintChanges = Math.max(maxPaintChanges, paintChanges);
+        maxAllocatedBytes = Math.max(maxAllocatedBytes, allocatedBytes);
+    }
+
+    public int getFrameCount() {
+        return frames.length();
+    }
+
+    public int getMaxDrawOps() {
+        return maxDrawOps;
+    }
+
+    public int getMaxPaintChanges() {
+        return maxPaintChanges;
+    }
+
+    /**
+     * Write report into report directory.
+     *
+     * @return written file.
+     */
+    @NonNull
+    public File write() throws IOException, JSONException {
+        root.put(KEY_SUMMARY, createSummary());
+        return write(name + ".json", root);
+    }
+
+    /**
+     * Write summaries of reports into report directory in format of baseline resource,
+     * so baseline is updated by copying this file over {@code src/test/resources/draw-ops-baseline.json}.
+     *
+     * @return written file.
+     */
+    @NonNull
+    public static File writeBaseline(@NonNull List<DrawOpsReport> reports) throws IOException, JSONException {
+        JSONObject baseline = new JSONObject();
+        for (DrawOpsReport report : reports) {
+            JSONObject summary = new JSONObject();
+            summary.put(KEY_MAX_DRAW_OPS, report.maxDrawOps);
+            summary.put(KEY_MAX_PAINT_CHANGES, report.maxPaintChanges);
+            baseline.put(report.name, summary);
+        }
+
+        return write(BASELINE_RESOURCE, baseline);
+    }
+
+    /**
+     * Compare summary with baseline of the same name.
+     * Allocations are not compared, as they depend on JVM and shadows of Android classes.
+     *
+     * @return description of regression or null if there is none, or if there is no baseline to compare with.
+     */
+    @Nullable
+    public String compareWithBaseline() throws IOException, JSONException {
+        JSONObject baseline = readBaseline(name);
+        if (baseline == null) {
+            return null;
+        }
+
+        int baselineDrawOps = baseline.getInt(KEY_MAX_DRAW_OPS);
+        int baselinePaintChanges = baseline.getInt(KEY_MAX_PAINT_CHANGES);
+
+        if (maxDrawOps > baselineDrawOps || maxPaintChanges > baselinePaintChanges) {
+            return name + ": draw ops " + baselineDrawOps + " -> " + maxDrawOps
+                    + ", paint changes " + baselinePaintChanges + " -> " + maxPaintChanges;
+        }
+
+        return null;
+    }
+
+    @NonNull
+    private JSONObject createSummary() throws JSONException {
+        JSONObject summary = new JSONObject();
+        summary.put("frames", frames.length());
+        summary.put(KEY_MAX_DRAW_OPS, maxDrawOps);
+        summary.put(KEY_MAX_PAINT_CHANGES, maxPaintChanges);
+        summary.put(KEY_MAX_ALLOCATED_BYTES, maxAllocatedBytes);
+        return summary;
+    }
+
+    /**
+     * Return baseline summary of report with name or null if there is no baseline for it.
+     */
+    @Nullable
+    private static JSONObject readBaseline(@NonNull String name) throws IOException, JSONException {
+        String baselineDir = System.getProperty(BASELINE_DIR_PROPERTY);
+        if (baselineDir != null) {
+            File file = new File(baselineDir, name + ".json");
+            return file.isFile() ? new JSONObject(read(new FileInputStream(file))).getJSONObject(KEY_SUMMARY) : null;
+        }
+
+        if (baselineResource == null) {
+            InputStream stream = DrawOpsReport.class.getClassLoader().getResourceAsStream(BASELINE_RESOURCE);
+            if (stream == null) {
+                throw new IOException("No " + BASELINE_RESOURCE + " in test resources");
+            }
+
+            baselineResource = new JSONObject(read(stream));
+        }
+
+        return baselineResource.optJSONObject(name);
+    }
+
+    @NonNull
+    private static File write(@NonNull String fileName, @NonNull JSONObject json) throws IOException, JSONException {
+        File dir = new File(System.getProperty(REPORT_DIR_PROPERTY, DEFAULT_REPORT_DIR));
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Can't create report directory " + dir);
+        }
+
+        File file = new File(dir, fileName);
+        OutputStream stream = new FileOutputStream(file);
+        try {
+            stream.write(json.toString(2).getBytes(UTF_8));
+        } finally {
+            stream.close();
+        }
+
+        return file;
+    }
+
+    @NonNull
+    private static String read(@NonNull InputStream stream) throws IOException {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) >= 0) {
+                bytes.write(buffer, 0, read);
+            }
+
+            return new String(bytes.toByteArray(), UTF_8);
+        } finally {
+            stream.close();
+        }
+    }
+}
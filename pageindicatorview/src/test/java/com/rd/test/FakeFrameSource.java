@@ -0,0 +1,93 @@
+package com.rd.test;
+
+import androidx.annotation.NonNull;
+
+import com.rd.animation.clock.FrameClock;
+
+/**
+ * Source of frames driven by test, so animations run without a looper and real time.
+ */
+public class FakeFrameSource implements FrameClock.FrameSource {
+
+    public static final long FRAME_NANOS = 16_666_667L;
+
+    private static FakeFrameSource installed;
+
+    private long timeNanos;
+    private FrameClock pendingClock;
+
+    /**
+     * Set this source to shared {@link FrameClock}, replacing source set by previous tests or by views.
+     */
+    @NonNull
+    public static FakeFrameSource install() {
+        FakeFrameSource source = new FakeFrameSource();
+        //Time continues from previous source, so animations left running by previous tests still finish
+        if (installed != null) {
+            source.timeNanos = installed.timeNanos;
+        }
+
+        installed = source;
+        FrameClock.setFrameSource(source);
+        return source;
+    }
+
+    @Override
+    public long now() {
+        return timeNanos;
+    }
+
+    @Override
+    public void postFrame(@NonNull FrameClock clock) {
+        pendingClock = clock;
+    }
+
+    @Override
+    public void removeFrame(@NonNull FrameClock clock) {
+        pendingClock = null;
+    }
+
+    @Override
+    public float getDurationScale() {
+        return 1;
+    }
+
+    /**
+     * Return true if clock has requested next frame.
+     */
+    public boolean isFramePending() {
+        return pendingClock != null;
+    }
+
+    /**
+     * Move time by one frame and dispatch it if it was requested.
+     *
+     * @return true if frame was dispatched.
+     */
+    public boolean nextFrame() {
+        timeNanos += FRAME_NANOS;
+
+        FrameClock clock = pendingClock;
+        if (clock == null) {
+            return false;
+        }
+
+        pendingClock = null;
+        clock.doFrame(timeNanos);
+        return true;
+    }
+
+    /**
+     * Dispatch frames until clock stops requesting them, e.g. to finish all running animations.
+     *
+     * @return number of dispatched frames.
+     */
+    public int runFrames(int maxFrames) {
+        int frames = 0;
+        while (frames < maxFrames && nextFrame()) {
+            frames++;
+        }
+
+        return frames;
+    }
+}
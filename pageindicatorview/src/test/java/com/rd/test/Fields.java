@@ -0,0 +1,73 @@
+package com.rd.test;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.lang.reflect.Field;
+
+/**
+ * Reads private fields, so tests can check which objects an instance keeps without widening production API.
+ */
+public final class Fields {
+
+    private Fields() {
+    }
+
+    /**
+     * Return value of field declared by class of owner or by any of its superclasses.
+     */
+    @Nullable
+    public static Object get(@NonNull Object owner, @NonNull String name) {
+        for (Class<?> type = owner.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                return field.get(owner);
+
+            } catch (NoSuchFieldException e) {
+                //Field could be declared by superclass
+
+            } catch (IllegalAccessException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        throw new AssertionError("No field " + name + " in " + owner.getClass().getName());
+    }
+
+    /**
+     * Return number of fields declared by class of owner, with a value of type or its subtype, which are not null.
+     *
+     * @param excluded types which are not counted, even though they are subtypes of type.
+     */
+    public static int countNonNull(@NonNull Object owner, @NonNull Class<?> type, @NonNull Class<?>... excluded) {
+        int count = 0;
+
+        for (Field field : owner.getClass().getDeclaredFields()) {
+            if (!type.isAssignableFrom(field.getType()) || isExcluded(field.getType(), excluded)) {
+                continue;
+            }
+
+            field.setAccessible(true);
+            try {
+                if (field.get(owner) != null) {
+                    count++;
+                }
+            } catch (IllegalAccessException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        return count;
+    }
+
+    private static boolean isExcluded(@NonNull Class<?> fieldType, @NonNull Class<?>[] excluded) {
+        for (Class<?> type : excluded) {
+            if (type.isAssignableFrom(fieldType)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
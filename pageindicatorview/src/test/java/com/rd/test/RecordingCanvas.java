@@ -0,0 +1,228 @@
+package com.rd.test;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Canvas which counts draw calls instead of drawing, and how many times paints were changed between them.
+ * Paint change is counted when paint is drawn with another color, stroke width, style or cap than it was
+ * drawn with last time, so paints changed to the same values don't count. Counting doesn't allocate,
+ * so allocations measured around drawing into this canvas are allocations of drawing code only.
+ */
+public class RecordingCanvas extends Canvas {
+
+    public enum Op {
+        CIRCLE("drawCircle"),
+        ROUND_RECT("drawRoundRect"),
+        RECT("drawRect"),
+        OVAL("drawOval"),
+        ARC("drawArc"),
+        LINE("drawLine"),
+        PATH("drawPath"),
+        POINTS("drawPoints"),
+        BITMAP("drawBitmap");
+
+        private final String methodName;
+
+        Op(@NonNull String methodName) {
+            this.methodName = methodName;
+        }
+
+        @NonNull
+        public String getMethodName() {
+            return methodName;
+        }
+    }
+
+    private static final int MAX_PAINTS = 32;
+
+    private final int width;
+    private final int height;
+    private final int[] opCounts = new int[Op.values().length];
+    private int paintChanges;
+
+    //Last drawn state of each paint, kept between frames
+    private final Paint[] paints = new Paint[MAX_PAINTS];
+    private final int[] paintColors = new int[MAX_PAINTS];
+    private final float[] paintStrokeWidths = new float[MAX_PAINTS];
+    private final Paint.Style[] paintStyles = new Paint.Style[MAX_PAINTS];
+    private final Paint.Cap[] paintCaps = new Paint.Cap[MAX_PAINTS];
+    private int paintCount;
+
+    /**
+     * @param width  width of clip bounds, e.g. of measured view.
+     * @param height height of clip bounds.
+     */
+    public RecordingCanvas(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Reset counters of draw calls and paint changes, e.g. before next frame. Last states of paints are kept.
+     */
+    public void reset() {
+        for (int i = 0; i < opCounts.length; i++) {
+            opCounts[i] = 0;
+        }
+
+        paintChanges = 0;
+    }
+
+    public int getCount(@NonNull Op op) {
+        return opCounts[op.ordinal()];
+    }
+
+    public int getTotalCount() {
+        int total = 0;
+        for (int count : opCounts) {
+            total += count;
+        }
+
+        return total;
+    }
+
+    public int getPaintChanges() {
+        return paintChanges;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public boolean getClipBounds(@Nullable Rect bounds) {
+        if (bounds != null) {
+            bounds.set(0, 0, width, height);
+        }
+
+        return width > 0 && height > 0;
+    }
+
+    @Override
+    public void drawCircle(float cx, float cy, float radius, @NonNull Paint paint) {
+        record(Op.CIRCLE, paint);
+    }
+
+    @Override
+    public void drawRoundRect(@NonNull RectF rect, float rx, float ry, @NonNull Paint paint) {
+        record(Op.ROUND_RECT, paint);
+    }
+
+    @Override
+    public void drawRoundRect(float left, float top, float right, float bottom, float rx, float ry, @NonNull Paint paint) {
+        record(Op.ROUND_RECT, paint);
+    }
+
+    @Override
+    public void drawRect(@NonNull RectF rect, @NonNull Paint paint) {
+        record(Op.RECT, paint);
+    }
+
+    @Override
+    public void drawRect(@NonNull Rect rect, @NonNull Paint paint) {
+        record(Op.RECT, paint);
+    }
+
+    @Override
+    public void drawRect(float left, float top, float right, float bottom, @NonNull Paint paint) {
+        record(Op.RECT, paint);
+    }
+
+    @Override
+    public void drawOval(@NonNull RectF oval, @NonNull Paint paint) {
+        record(Op.OVAL, paint);
+    }
+
+    @Override
+    public void drawArc(@NonNull RectF oval, float startAngle, float sweepAngle, boolean useCenter, @NonNull Paint paint) {
+        record(Op.ARC, paint);
+    }
+
+    @Override
+    public void drawLine(float startX, float startY, float stopX, float stopY, @NonNull Paint paint) {
+        record(Op.LINE, paint);
+    }
+
+    @Override
+    public void drawPath(@NonNull Path path, @NonNull Paint paint) {
+        record(Op.PATH, paint);
+    }
+
+    @Override
+    public void drawPoints(@NonNull float[] pts, int offset, int count, @NonNull Paint paint) {
+        record(Op.POINTS, paint);
+    }
+
+    @Override
+    public void drawPoints(@NonNull float[] pts, @NonNull Paint paint) {
+        record(Op.POINTS, paint);
+    }
+
+    @Override
+    public void drawBitmap(@NonNull Bitmap bitmap, float left, float top, @Nullable Paint paint) {
+        record(Op.BITMAP, paint);
+    }
+
+    @Override
+    public void drawBitmap(@NonNull Bitmap bitmap, @Nullable Rect src, @NonNull Rect dst, @Nullable Paint paint) {
+        record(Op.BITMAP, paint);
+    }
+
+    @Override
+    public void drawBitmap(@NonNull Bitmap bitmap, @Nullable Rect src, @NonNull RectF dst, @Nullable Paint paint) {
+        record(Op.BITMAP, paint);
+    }
+
+    private void record(@NonNull Op op, @Nullable Paint paint) {
+        opCounts[op.ordinal()]++;
+        if (paint != null) {
+            recordPaint(paint);
+        }
+    }
+
+    private void recordPaint(@NonNull Paint paint) {
+        int index = 0;
+        while (index < paintCount && paints[index] != paint) {
+            index++;
+        }
+
+        int color = paint.getColor();
+        float strokeWidth = paint.getStrokeWidth();
+        Paint.Style style = paint.getStyle();
+        Paint.Cap cap = paint.getStrokeCap();
+
+        if (index < paintCount) {
+            if (paintColors[index] != color || paintStrokeWidths[index] != strokeWidth
+                    || paintStyles[index] != style || paintCaps[index] != cap) {
+                paintChanges++;
+            }
+
+        } else if (paintCount < MAX_PAINTS) {
+            //First use of paint is its setup, not a change
+            paints[index] = paint;
+            paintCount++;
+
+        } else {
+            return;
+        }
+
+        paintColors[index] = color;
+        paintStrokeWidths[index] = strokeWidth;
+        paintStyles[index] = style;
+        paintCaps[index] = cap;
+    }
+}
@@ -0,0 +1,75 @@
+package com.rd.utils;
+
+import com.rd.draw.data.Indicator;
+import com.rd.draw.data.SelectingProgress;
+import com.rd.test.AllocationCounter;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class CoordinatesUtilsTest {
+
+    private static final int COUNT = 5;
+
+    private Indicator indicator;
+    private SelectingProgress progress;
+
+    @Before
+    public void setUp() {
+        indicator = new Indicator();
+        indicator.setCount(COUNT);
+        indicator.setRadius(12);
+        indicator.setPadding(16);
+        indicator.setSelectedPosition(1);
+
+        progress = new SelectingProgress();
+    }
+
+    @Test
+    public void getProgressSelectsNextPositionWhileScrolledForward() {
+        SelectingProgress result = CoordinatesUtils.getProgress(indicator, 1, 0.25f, false, progress);
+
+        assertSame(progress, result);
+        assertEquals(2, result.getPosition());
+        assertEquals(0.25f, result.getProgress(), 0);
+    }
+
+    @Test
+    public void getProgressSelectsPreviousPositionWhileScrolledBack() {
+        CoordinatesUtils.getProgress(indicator, 0, 0.25f, false, progress);
+
+        assertEquals(0, progress.getPosition());
+        assertEquals(0.75f, progress.getProgress(), 0);
+    }
+
+    @Test
+    public void getProgressMirrorsPositionInRtl() {
+        indicator.setSelectedPosition(3);
+        CoordinatesUtils.getProgress(indicator, 1, 0.25f, true, progress);
+
+        assertEquals(2, progress.getPosition());
+        assertEquals(0.25f, progress.getProgress(), 0);
+    }
+
+    @Test
+    public void getProgressDoesNotAllocate() {
+        assumeTrue(AllocationCounter.isSupported());
+
+        double bytesPerFrame = AllocationCounter.measure(10000, 10000, new AllocationCounter.Action() {
+            @Override
+            public void run(int iteration) {
+                //Scroll back and forth between first pages, as pager does while it is dragged
+                int frame = iteration % 20;
+                float offset = (frame < 10 ? frame : 20 - frame) / 10f;
+                CoordinatesUtils.getProgress(indicator, 1, offset, false, progress);
+            }
+        });
+
+        assertTrue("Scroll frame allocates " + bytesPerFrame + " bytes", bytesPerFrame < 1);
+    }
+}